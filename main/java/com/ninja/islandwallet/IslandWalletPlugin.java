@@ -3,14 +3,20 @@ package com.ninja.islandwallet;
 import com.ninja.islandwallet.api.PlaceholderAPIIntegration;
 import com.ninja.islandwallet.commands.IslandWalletCommand;
 import com.ninja.islandwallet.config.ConfigManager;
+import com.ninja.islandwallet.data.BinaryJournalManager;
 import com.ninja.islandwallet.data.DatabaseManager;
 import com.ninja.islandwallet.data.SQLiteManager;
 import com.ninja.islandwallet.data.YamlManager;
 import com.ninja.islandwallet.gui.GuiManager;
+import com.ninja.islandwallet.listeners.PlayerConnectionListener;
 import com.ninja.islandwallet.listeners.PlayerPointsListener;
 import com.ninja.islandwallet.listeners.SuperiorSkyblockListener;
+import com.ninja.islandwallet.managers.GemTransferReconciler;
+import com.ninja.islandwallet.managers.TransactionLedger;
 import com.ninja.islandwallet.managers.LeaderboardManager;
 import com.ninja.islandwallet.managers.PayoutManager;
+import com.ninja.islandwallet.managers.SeasonHistoryCache;
+import com.ninja.islandwallet.managers.StartupManager;
 import com.ninja.islandwallet.managers.WalletManager;
 import com.ninja.islandwallet.utils.DependencyChecker;
 import net.milkbowl.vault.economy.Economy;
@@ -40,6 +46,10 @@ public class IslandWalletPlugin extends JavaPlugin {
     private WalletManager walletManager;
     private LeaderboardManager leaderboardManager;
     private PayoutManager payoutManager;
+    private SeasonHistoryCache seasonHistoryCache;
+    private StartupManager startupManager;
+    private GemTransferReconciler gemTransferReconciler;
+    private TransactionLedger transactionLedger;
     private GuiManager guiManager;
 
     // Economy integration
@@ -48,6 +58,9 @@ public class IslandWalletPlugin extends JavaPlugin {
     // PlaceholderAPI integration
     private PlaceholderAPIIntegration placeholderAPI;
 
+    // Listeners
+    private PlayerPointsListener playerPointsListener;
+
     // Cleanup task
     private BukkitRunnable cleanupTask;
 
@@ -80,6 +93,9 @@ public class IslandWalletPlugin extends JavaPlugin {
             // Setup PlaceholderAPI
             setupPlaceholderAPI();
 
+            // Index islands of players already online (e.g. after /reload)
+            getServer().getScheduler().runTask(this, () -> walletManager.warmPlayerIndex());
+
             // Start payout scheduler
             startPayoutScheduler();
 
@@ -109,6 +125,31 @@ public class IslandWalletPlugin extends JavaPlugin {
                 cleanupTask.cancel();
             }
 
+            // Stop republishing the leaderboard
+            if (leaderboardManager != null) {
+                leaderboardManager.stop();
+            }
+
+            // Transfer PlayerPoints gains still waiting for the next tick
+            if (playerPointsListener != null) {
+                playerPointsListener.stop();
+            }
+
+            // Charge or reverse every transfer still waiting for reconciliation
+            if (gemTransferReconciler != null) {
+                gemTransferReconciler.stop();
+            }
+
+            // Write queued ledger entries while the storage is still open
+            if (transactionLedger != null) {
+                transactionLedger.stop();
+            }
+
+            // Flush pending write-behind saves before the storage is closed
+            if (walletManager != null) {
+                walletManager.shutdown();
+            }
+
             // Close database connections
             if (databaseManager != null) {
                 databaseManager.close();
@@ -153,6 +194,9 @@ public class IslandWalletPlugin extends JavaPlugin {
             if ("sqlite".equalsIgnoreCase(storageType)) {
                 databaseManager = new SQLiteManager(this);
                 getLogger().info("Using SQLite storage");
+            } else if ("binary".equalsIgnoreCase(storageType)) {
+                databaseManager = new BinaryJournalManager(this);
+                getLogger().info("Using binary journal storage");
             } else {
                 databaseManager = new YamlManager(this);
                 getLogger().info("Using YAML storage");
@@ -162,11 +206,20 @@ public class IslandWalletPlugin extends JavaPlugin {
             databaseManager.initialize();
             getLogger().info("Database initialized");
 
+            seasonHistoryCache = new SeasonHistoryCache(this);
+
             // Core managers
             walletManager = new WalletManager(this, databaseManager);
             getLogger().info("Wallet manager initialized");
 
+            transactionLedger = new TransactionLedger(this);
+            transactionLedger.start();
+
+            gemTransferReconciler = new GemTransferReconciler(this);
+            gemTransferReconciler.start();
+
             leaderboardManager = new LeaderboardManager(this, walletManager);
+            leaderboardManager.start();
             getLogger().info("Leaderboard manager initialized");
 
             payoutManager = new PayoutManager(this, walletManager, leaderboardManager);
@@ -175,6 +228,10 @@ public class IslandWalletPlugin extends JavaPlugin {
             guiManager = new GuiManager(this, leaderboardManager);
             getLogger().info("GUI manager initialized");
 
+            // Load island data in the background; commands and placeholders wait for it
+            startupManager = new StartupManager(this);
+            startupManager.start();
+
             return true;
 
         } catch (Exception e) {
@@ -243,8 +300,11 @@ public class IslandWalletPlugin extends JavaPlugin {
      */
     private void registerListeners() {
         try {
-            getServer().getPluginManager().registerEvents(new PlayerPointsListener(this), this);
+            playerPointsListener = new PlayerPointsListener(this);
+            getServer().getPluginManager().registerEvents(playerPointsListener, this);
+            playerPointsListener.start();
             getServer().getPluginManager().registerEvents(new SuperiorSkyblockListener(this), this);
+            getServer().getPluginManager().registerEvents(new PlayerConnectionListener(this), this);
             getServer().getPluginManager().registerEvents(guiManager, this);
 
             getLogger().info("Event listeners registered successfully");
@@ -292,7 +352,11 @@ public class IslandWalletPlugin extends JavaPlugin {
                 public void run() {
                     try {
                         if (payoutManager.validatePayoutSystem()) {
-                            payoutManager.processPayout();
+                            if (!payoutManager.processPayout()) {
+                                // Refused while island data loads - run it as soon as the warm-up finishes
+                                startupManager.getReadyFuture().thenRun(() ->
+                                        getServer().getScheduler().runTask(IslandWalletPlugin.this, payoutManager::processPayout));
+                            }
                         } else {
                             getLogger().warning("Payout system validation failed, skipping cycle");
                         }
@@ -323,10 +387,6 @@ public class IslandWalletPlugin extends JavaPlugin {
                             guiManager.cleanupCooldowns();
                         }
 
-                        // Clean up PlayerPointsListener entries
-                        PlayerPointsListener listener = new PlayerPointsListener(IslandWalletPlugin.this);
-                        listener.cleanupOldEntries();
-
                         if (configManager.isDebugEnabled()) {
                             getLogger().info("Performed cleanup of old entries");
                         }
@@ -362,12 +422,18 @@ public class IslandWalletPlugin extends JavaPlugin {
             // Reload database manager if storage type changed
             String newStorageType = configManager.getStorageType();
             if ((databaseManager instanceof SQLiteManager && !"sqlite".equalsIgnoreCase(newStorageType)) ||
-                    (databaseManager instanceof YamlManager && !"yaml".equalsIgnoreCase(newStorageType))) {
+                    (databaseManager instanceof YamlManager && !"yaml".equalsIgnoreCase(newStorageType)) ||
+                    (databaseManager instanceof BinaryJournalManager && !"binary".equalsIgnoreCase(newStorageType))) {
 
+                // Pending saves belong to the old storage
+                walletManager.flushPendingWrites();
+                transactionLedger.flush();
                 databaseManager.close();
 
                 if ("sqlite".equalsIgnoreCase(newStorageType)) {
                     databaseManager = new SQLiteManager(this);
+                } else if ("binary".equalsIgnoreCase(newStorageType)) {
+                    databaseManager = new BinaryJournalManager(this);
                 } else {
                     databaseManager = new YamlManager(this);
                 }
@@ -377,6 +443,10 @@ public class IslandWalletPlugin extends JavaPlugin {
                 getLogger().info("Database manager reloaded with new storage type: " + newStorageType);
             }
 
+            walletManager.reloadPersistenceSettings();
+            transactionLedger.start();
+            payoutManager.refreshDeadline();
+            seasonHistoryCache.invalidate();
             guiManager.reloadConfiguration();
 
             getLogger().info("Plugin reloaded successfully");
@@ -403,6 +473,18 @@ public class IslandWalletPlugin extends JavaPlugin {
         return walletManager;
     }
 
+    public StartupManager getStartupManager() {
+        return startupManager;
+    }
+
+    public GemTransferReconciler getGemTransferReconciler() {
+        return gemTransferReconciler;
+    }
+
+    public TransactionLedger getTransactionLedger() {
+        return transactionLedger;
+    }
+
     public LeaderboardManager getLeaderboardManager() {
         return leaderboardManager;
     }
@@ -411,6 +493,10 @@ public class IslandWalletPlugin extends JavaPlugin {
         return payoutManager;
     }
 
+    public SeasonHistoryCache getSeasonHistoryCache() {
+        return seasonHistoryCache;
+    }
+
     public GuiManager getGuiManager() {
         return guiManager;
     }
@@ -1,6 +1,7 @@
 package com.ninja.islandwallet.api;
 
 import com.ninja.islandwallet.IslandWalletPlugin;
+import com.ninja.islandwallet.managers.SeasonHistoryCache;
 import com.ninja.islandwallet.models.IslandData;
 import com.ninja.islandwallet.models.PayoutWinner;
 import com.ninja.islandwallet.utils.MessageUtil;
@@ -9,17 +10,32 @@ import net.milkbowl.vault.economy.Economy;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * ENHANCED PlaceholderAPI integration with money-based purchasing placeholders and time remaining
+ * Every placeholder is bound to its handler once at registration; a request is a single map lookup
+ * on the raw params string, and island data is only fetched for placeholders that need it
+ * Rendered values are cached per player for a few ticks and dropped early when the island changes
+ * or a new leaderboard snapshot is published
  */
 public class PlaceholderAPIIntegration extends PlaceholderExpansion {
 
+    // Raw params strings remembered at most - requests for unknown params must not grow the cache forever
+    private static final int MAX_RESOLVED_PARAMS = 1024;
+
     private final IslandWalletPlugin plugin;
+    private final Map<String, Placeholder> placeholders = new HashMap<>();
+    private final Map<String, Placeholder> resolved = new ConcurrentHashMap<>();
+    private final Map<UUID, Map<String, Rendered>> renderCache = new ConcurrentHashMap<>();
+    private final Placeholder unknown = new Placeholder((player, island) -> "", null);
 
     public PlaceholderAPIIntegration(IslandWalletPlugin plugin) {
         this.plugin = plugin;
+        registerPlaceholders();
     }
 
     @Override
@@ -48,144 +64,204 @@ public class PlaceholderAPIIntegration extends PlaceholderExpansion {
             return "";
         }
 
-        // Get player's island data
-        IslandData islandData = plugin.getWalletManager().getPlayerIslandData(player);
-
-        if (islandData == null) {
-            // Player is not on an island - return appropriate defaults
-            return switch (params.toLowerCase()) {
-                case "gems", "balance", "gem_balance", "gems_formatted", "balance_formatted" -> "0";
-                case "payout_points", "points", "payout_points_formatted", "points_formatted" -> "0";
-                case "rank", "leaderboard_rank" -> "N/A";
-                case "island_name", "name" -> "None";
-                case "leader", "owner" -> "N/A";
-                case "member_count", "members" -> "0";
-                case "currency_balance", "currency", "currency_formatted" -> "0";
-                case "last_payout_rank", "last_payout_points" -> "N/A";
-                case "point_cost_money", "cost_per_point_money" -> getPointCostInfo(params);
-                case "can_afford_1_point", "can_afford_1", "can_afford_10_points", "can_afford_10", "can_afford_100_points", "can_afford_100" -> "false";
-                case "has_island" -> "false";
-                case "is_leader", "is_owner", "is_member" -> "false";
-                case "total_islands" -> String.valueOf(plugin.getLeaderboardManager().getTotalParticipatingIslands());
-                case "current_season" -> String.valueOf(plugin.getDatabaseManager().getCurrentSeason());
-                case "player_balance", "money_balance" -> getPlayerBalance(player);
-                // ENHANCED: Time remaining placeholders
-                case "time_remaining_hours" -> MessageUtil.formatTimeRemainingHours(plugin.getPayoutManager().getTimeUntilNextPayout());
-                case "time_remaining_minutes" -> MessageUtil.formatTimeRemainingMinutes(plugin.getPayoutManager().getTimeUntilNextPayout());
-                case "time_remaining_formatted" -> MessageUtil.formatTimeRemaining(plugin.getPayoutManager().getTimeUntilNextPayout());
-                case "time_remaining_seconds" -> String.valueOf(plugin.getPayoutManager().getTimeUntilNextPayout());
-                // ENHANCED: Multiple countdown format placeholders
-                case "time_remaining_compact" -> MessageUtil.formatTimeRemainingCompact(plugin.getPayoutManager().getTimeUntilNextPayout());
-                case "time_remaining_short" -> MessageUtil.formatTimeRemainingShort(plugin.getPayoutManager().getTimeUntilNextPayout());
-                case "time_remaining_days" -> String.valueOf(plugin.getPayoutManager().getTimeUntilNextPayout() / 86400);
-                case "time_remaining_hours_only" -> String.valueOf((plugin.getPayoutManager().getTimeUntilNextPayout() % 86400) / 3600);
-                case "time_remaining_minutes_only" -> String.valueOf((plugin.getPayoutManager().getTimeUntilNextPayout() % 3600) / 60);
-                case "time_remaining_dhm" -> MessageUtil.formatTimeRemainingDHM(plugin.getPayoutManager().getTimeUntilNextPayout());
-                // ENHANCED: Multiple countdown format placeholders
-                case "time_remaining_compact" -> MessageUtil.formatTimeRemainingCompact(plugin.getPayoutManager().getTimeUntilNextPayout());
-                case "time_remaining_short" -> MessageUtil.formatTimeRemainingShort(plugin.getPayoutManager().getTimeUntilNextPayout());
-                case "time_remaining_days" -> String.valueOf(plugin.getPayoutManager().getTimeUntilNextPayout() / 86400);
-                case "time_remaining_hours_only" -> String.valueOf((plugin.getPayoutManager().getTimeUntilNextPayout() % 86400) / 3600);
-                case "time_remaining_minutes_only" -> String.valueOf((plugin.getPayoutManager().getTimeUntilNextPayout() % 3600) / 60);
-                case "time_remaining_dhm" -> MessageUtil.formatTimeRemainingDHM(plugin.getPayoutManager().getTimeUntilNextPayout());
-                // Legacy compatibility
-                case "playerpoints" -> "0";
-                default -> "";
-            };
+        // Never serve ranks or balances from a half-loaded cache
+        if (!plugin.getStartupManager().isReady()) {
+            return plugin.getConfigManager().getPlaceholderLoadingText();
         }
 
-        return switch (params.toLowerCase()) {
-            // CRITICAL: Separated gems from payout points
-            case "gems", "balance", "gem_balance" -> String.valueOf(islandData.getGems());
-            case "gems_formatted", "balance_formatted" -> String.format("%,d", islandData.getGems());
-
-            case "payout_points", "points" -> String.valueOf(islandData.getPayoutPoints());
-            case "payout_points_formatted", "points_formatted" -> String.format("%,d", islandData.getPayoutPoints());
+        long now = System.currentTimeMillis();
+        long indexVersion = plugin.getLeaderboardManager().getIndexVersion();
+        long snapshotVersion = plugin.getLeaderboardManager().getPublishedVersion();
 
-            // Island information
-            case "island_name", "name" -> islandData.getIslandName();
-            case "leader", "owner" -> islandData.getLeader() != null ? islandData.getLeader() : "N/A";
-            case "member_count", "members" -> String.valueOf(islandData.getMemberCount());
-
-            // Ranking information
-            case "rank", "leaderboard_rank" -> {
-                int rank = plugin.getLeaderboardManager().getIslandRank(islandData);
-                yield rank > 0 ? String.valueOf(rank) : "N/A";
+        Map<String, Rendered> playerCache = renderCache.get(player.getUniqueId());
+        if (playerCache != null) {
+            Rendered rendered = playerCache.get(params);
+            if (rendered != null && rendered.isValid(now, indexVersion, snapshotVersion)) {
+                return rendered.value;
             }
+        }
 
-            // Currency conversion (for display only, NOT for payouts)
-            case "currency_balance", "currency" -> {
-                double currencyValue = plugin.getWalletManager().getCurrencyValue(islandData.getGems());
-                yield String.format("%.0f", currencyValue);
+        Placeholder placeholder = resolved.get(params);
+        if (placeholder == null) {
+            placeholder = resolve(params);
+            if (resolved.size() < MAX_RESOLVED_PARAMS) {
+                resolved.put(params, placeholder);
             }
-            case "currency_formatted" -> {
-                double currencyValue = plugin.getWalletManager().getCurrencyValue(islandData.getGems());
-                yield String.format("$%,.2f", currencyValue);
+        }
+
+        // Versions are read before rendering, so a change made meanwhile invalidates the cached value
+        IslandData islandData = null;
+        long islandVersion = 0;
+        String value;
+        if (placeholder.noIslandValue == null) {
+            value = placeholder.handler.apply(player, null);
+        } else {
+            islandData = plugin.getWalletManager().getPlayerIslandData(player);
+            if (islandData != null) {
+                islandVersion = islandData.getVersion();
+                value = placeholder.handler.apply(player, islandData);
+            } else {
+                value = placeholder.noIslandValue;
             }
+        }
+
+        long ttl = plugin.getConfigManager().getPlaceholderCacheTtlMillis();
+        if (ttl > 0 && placeholder != unknown && value != null) {
+            renderCache.computeIfAbsent(player.getUniqueId(), id -> new ConcurrentHashMap<>())
+                    .put(params, new Rendered(value, now + ttl, islandData, islandVersion, indexVersion, snapshotVersion));
+        }
+        return value;
+    }
+
+    /**
+     * Forget everything rendered for a player (on quit)
+     */
+    public void invalidate(UUID playerId) {
+        renderCache.remove(playerId);
+    }
+
+    /**
+     * Parse a raw params string into its handler
+     */
+    private Placeholder resolve(String params) {
+        String key = params.toLowerCase();
+        Placeholder placeholder = placeholders.get(key);
+        if (placeholder != null) {
+            return placeholder;
+        }
+
+        // top_<n>_<name|leader|points> for any rank
+        if (key.startsWith("top_")) {
+            int separator = key.indexOf('_', 4);
+            if (separator > 4) {
+                int rank;
+                try {
+                    rank = Integer.parseInt(key.substring(4, separator));
+                } catch (NumberFormatException e) {
+                    return unknown;
+                }
 
-            // ENHANCED: Money-based purchase capabilities
-            case "point_cost_money", "cost_per_point_money" -> String.format("%.2f", plugin.getConfigManager().getPointCostMoney());
-            case "player_balance", "money_balance" -> getPlayerBalance(player);
-
-            case "can_afford_1_point", "can_afford_1" -> String.valueOf(canAffordPoints(player, 1));
-            case "can_afford_10_points", "can_afford_10" -> String.valueOf(canAffordPoints(player, 10));
-            case "can_afford_100_points", "can_afford_100" -> String.valueOf(canAffordPoints(player, 100));
-
-            // ENHANCED: Time remaining placeholders (3 formats)
-            case "time_remaining_hours" -> MessageUtil.formatTimeRemainingHours(plugin.getPayoutManager().getTimeUntilNextPayout());
-            case "time_remaining_minutes" -> MessageUtil.formatTimeRemainingMinutes(plugin.getPayoutManager().getTimeUntilNextPayout());
-            case "time_remaining_formatted" -> MessageUtil.formatTimeRemaining(plugin.getPayoutManager().getTimeUntilNextPayout());
-            case "time_remaining_seconds" -> String.valueOf(plugin.getPayoutManager().getTimeUntilNextPayout());
-
-            // Player status
-            case "has_island" -> "true";
-            case "is_leader", "is_owner" -> String.valueOf(player.getName().equals(islandData.getLeader()));
-            case "is_member" -> String.valueOf(islandData.isMember(player.getName()));
-
-            // Historical data
-            case "last_payout_rank" -> getLastPayoutRank(islandData.getIslandId());
-            case "last_payout_points" -> getLastPayoutPoints(islandData.getIslandId());
-
-            // Server-wide statistics
-            case "total_islands" -> String.valueOf(plugin.getLeaderboardManager().getTotalParticipatingIslands());
-            case "total_gems" -> {
-                long totalGems = plugin.getWalletManager().getAllIslandData().values().stream()
-                        .mapToLong(IslandData::getGems)
-                        .sum();
-                yield String.valueOf(totalGems);
+                if (rank > 0) {
+                    switch (key.substring(separator + 1)) {
+                        case "name" -> {
+                            return global((player, island) -> getTopIslandName(rank));
+                        }
+                        case "leader" -> {
+                            return global((player, island) -> getTopIslandLeader(rank));
+                        }
+                        case "points" -> {
+                            return global((player, island) -> getTopIslandPoints(rank));
+                        }
+                        default -> {
+                            return unknown;
+                        }
+                    }
+                }
             }
-            case "total_payout_points" -> String.valueOf(plugin.getLeaderboardManager().getTotalPoints());
-            case "current_season" -> String.valueOf(plugin.getDatabaseManager().getCurrentSeason());
-
-            // Top islands (placeholders for scoreboards)
-            case "top_1_name" -> getTopIslandName(1);
-            case "top_1_leader" -> getTopIslandLeader(1);
-            case "top_1_points" -> getTopIslandPoints(1);
-            case "top_2_name" -> getTopIslandName(2);
-            case "top_2_leader" -> getTopIslandLeader(2);
-            case "top_2_points" -> getTopIslandPoints(2);
-            case "top_3_name" -> getTopIslandName(3);
-            case "top_3_leader" -> getTopIslandLeader(3);
-            case "top_3_points" -> getTopIslandPoints(3);
-
-            // Economy ratios
-            case "gem_to_currency_ratio" -> String.valueOf(plugin.getConfigManager().getGemToCurrencyRatio());
-
-            // Legacy compatibility (maps to gems)
-            case "playerpoints" -> String.valueOf(islandData.getGems());
-
-            default -> "";
-        };
+        }
+
+        return unknown;
+    }
+
+    /**
+     * Bind every fixed placeholder to its handler
+     */
+    private void registerPlaceholders() {
+        // CRITICAL: Separated gems from payout points
+        island("0", (player, island) -> String.valueOf(island.getGems()), "gems", "balance", "gem_balance");
+        island("0", (player, island) -> String.format("%,d", island.getGems()), "gems_formatted", "balance_formatted");
+
+        island("0", (player, island) -> String.valueOf(island.getPayoutPoints()), "payout_points", "points");
+        island("0", (player, island) -> String.format("%,d", island.getPayoutPoints()), "payout_points_formatted", "points_formatted");
+
+        // Island information
+        island("None", (player, island) -> island.getIslandName(), "island_name", "name");
+        island("N/A", (player, island) -> island.getLeader() != null ? island.getLeader() : "N/A", "leader", "owner");
+        island("0", (player, island) -> String.valueOf(island.getMemberCount()), "member_count", "members");
+
+        // Ranking information
+        island("N/A", (player, island) -> {
+            int rank = plugin.getLeaderboardManager().getIslandRank(island);
+            return rank > 0 ? String.valueOf(rank) : "N/A";
+        }, "rank", "leaderboard_rank");
+        island("N/A", (player, island) -> {
+            long needed = plugin.getLeaderboardManager().getPointsToNextRank(island);
+            return needed >= 0 ? String.valueOf(needed) : "N/A";
+        }, "points_to_next_rank");
+
+        // Currency conversion (for display only, NOT for payouts)
+        island("0", (player, island) -> String.format("%.0f", plugin.getWalletManager().getCurrencyValue(island.getGems())),
+                "currency_balance", "currency");
+        island("0", (player, island) -> String.format("$%,.2f", plugin.getWalletManager().getCurrencyValue(island.getGems())),
+                "currency_formatted");
+
+        // ENHANCED: Money-based purchase capabilities
+        global((player, island) -> String.format("%.2f", plugin.getConfigManager().getPointCostMoney()),
+                "point_cost_money", "cost_per_point_money");
+        global((player, island) -> getPlayerBalance(player), "player_balance", "money_balance");
+
+        island("false", (player, island) -> String.valueOf(canAffordPoints(player, 1)), "can_afford_1_point", "can_afford_1");
+        island("false", (player, island) -> String.valueOf(canAffordPoints(player, 10)), "can_afford_10_points", "can_afford_10");
+        island("false", (player, island) -> String.valueOf(canAffordPoints(player, 100)), "can_afford_100_points", "can_afford_100");
+
+        // ENHANCED: Time remaining placeholders, prebuilt once per second
+        global((player, island) -> plugin.getPayoutManager().getCountdown().getHours(), "time_remaining_hours");
+        global((player, island) -> plugin.getPayoutManager().getCountdown().getMinutes(), "time_remaining_minutes");
+        global((player, island) -> plugin.getPayoutManager().getCountdown().getFormatted(), "time_remaining_formatted");
+        global((player, island) -> plugin.getPayoutManager().getCountdown().getSeconds(), "time_remaining_seconds");
+        global((player, island) -> plugin.getPayoutManager().getCountdown().getCompact(), "time_remaining_compact");
+        global((player, island) -> plugin.getPayoutManager().getCountdown().getShort(), "time_remaining_short");
+        global((player, island) -> plugin.getPayoutManager().getCountdown().getDays(), "time_remaining_days");
+        global((player, island) -> plugin.getPayoutManager().getCountdown().getHoursOnly(), "time_remaining_hours_only");
+        global((player, island) -> plugin.getPayoutManager().getCountdown().getMinutesOnly(), "time_remaining_minutes_only");
+        global((player, island) -> plugin.getPayoutManager().getCountdown().getDHM(), "time_remaining_dhm");
+
+        // Player status
+        island("false", (player, island) -> "true", "has_island");
+        island("false", (player, island) -> String.valueOf(player.getName().equals(island.getLeader())), "is_leader", "is_owner");
+        island("false", (player, island) -> String.valueOf(island.isMember(player.getName())), "is_member");
+
+        // Historical data
+        island("N/A", (player, island) -> getLastPayoutRank(island.getIslandUuid()), "last_payout_rank");
+        island("N/A", (player, island) -> getLastPayoutPoints(island.getIslandUuid()), "last_payout_points");
+
+        // Server-wide statistics
+        global((player, island) -> String.valueOf(plugin.getLeaderboardManager().getTotalParticipatingIslands()), "total_islands");
+        global((player, island) -> String.valueOf(plugin.getWalletManager().getTotalGems()), "total_gems");
+        global((player, island) -> String.valueOf(plugin.getLeaderboardManager().getTotalPoints()), "total_payout_points");
+        global((player, island) -> String.valueOf(plugin.getSeasonHistoryCache().getCurrentSeason()), "current_season");
+
+        // Economy ratios
+        global((player, island) -> String.valueOf(plugin.getConfigManager().getGemToCurrencyRatio()), "gem_to_currency_ratio");
+
+        // Legacy compatibility (maps to gems)
+        island("0", (player, island) -> String.valueOf(island.getGems()), "playerpoints");
+    }
+
+    /**
+     * Register a placeholder that needs the player's island
+     *
+     * @param noIslandValue returned when the player has no island
+     */
+    private void island(String noIslandValue, Handler handler, String... keys) {
+        Placeholder placeholder = new Placeholder(handler, noIslandValue);
+        for (String key : keys) {
+            placeholders.put(key, placeholder);
+        }
     }
 
     /**
-     * Get point cost information for non-island players
+     * Register a placeholder that does not depend on an island
      */
-    private String getPointCostInfo(String params) {
-        return switch (params.toLowerCase()) {
-            case "point_cost_money", "cost_per_point_money" -> String.format("%.2f", plugin.getConfigManager().getPointCostMoney());
-            default -> "0";
-        };
+    private void global(Handler handler, String... keys) {
+        Placeholder placeholder = global(handler);
+        for (String key : keys) {
+            placeholders.put(key, placeholder);
+        }
+    }
+
+    private Placeholder global(Handler handler) {
+        return new Placeholder(handler, null);
     }
 
     /**
@@ -215,23 +291,18 @@ public class PlaceholderAPIIntegration extends PlaceholderExpansion {
     /**
      * Get island's rank in the last payout cycle
      */
-    private String getLastPayoutRank(String islandId) {
+    private String getLastPayoutRank(UUID islandUuid) {
         try {
-            int currentSeason = plugin.getDatabaseManager().getCurrentSeason();
-            if (currentSeason <= 1) {
+            // Closed seasons are served from memory
+            SeasonHistoryCache history = plugin.getSeasonHistoryCache();
+            int lastSeason = history.getLastSeason();
+            if (lastSeason < 1) {
                 return "N/A";
             }
 
-            int lastSeason = currentSeason - 1;
-            List<PayoutWinner> lastSeasonWinners = plugin.getDatabaseManager().loadPayoutWinners(lastSeason);
-
-            for (PayoutWinner winner : lastSeasonWinners) {
-                if (winner.getIslandId().equals(islandId)) {
-                    return String.valueOf(winner.getRank());
-                }
-            }
+            PayoutWinner winner = history.getWinner(lastSeason, islandUuid);
 
-            return "N/A";
+            return winner != null ? String.valueOf(winner.getRank()) : "N/A";
 
         } catch (Exception e) {
             plugin.getLogger().warning("Error getting last payout rank: " + e.getMessage());
@@ -242,23 +313,17 @@ public class PlaceholderAPIIntegration extends PlaceholderExpansion {
     /**
      * Get island's points in the last payout cycle
      */
-    private String getLastPayoutPoints(String islandId) {
+    private String getLastPayoutPoints(UUID islandUuid) {
         try {
-            int currentSeason = plugin.getDatabaseManager().getCurrentSeason();
-            if (currentSeason <= 1) {
+            SeasonHistoryCache history = plugin.getSeasonHistoryCache();
+            int lastSeason = history.getLastSeason();
+            if (lastSeason < 1) {
                 return "0";
             }
 
-            int lastSeason = currentSeason - 1;
-            List<PayoutWinner> lastSeasonWinners = plugin.getDatabaseManager().loadPayoutWinners(lastSeason);
-
-            for (PayoutWinner winner : lastSeasonWinners) {
-                if (winner.getIslandId().equals(islandId)) {
-                    return String.valueOf(winner.getPoints());
-                }
-            }
+            PayoutWinner winner = history.getWinner(lastSeason, islandUuid);
 
-            return "0";
+            return winner != null ? String.valueOf(winner.getPoints()) : "0";
 
         } catch (Exception e) {
             plugin.getLogger().warning("Error getting last payout points: " + e.getMessage());
@@ -271,11 +336,14 @@ public class PlaceholderAPIIntegration extends PlaceholderExpansion {
      */
     private String getTopIslandName(int rank) {
         try {
-            List<IslandData> topIslands = plugin.getLeaderboardManager().getTopIslands(rank);
-            if (topIslands.size() >= rank) {
-                return topIslands.get(rank - 1).getIslandName();
+            // Prebuilt with the snapshot for the leading ranks
+            String name = plugin.getLeaderboardManager().getSnapshot().getTopName(rank);
+            if (name != null) {
+                return name;
             }
-            return "N/A";
+
+            IslandData island = plugin.getLeaderboardManager().getIslandAtRank(rank);
+            return island != null ? island.getIslandName() : "N/A";
         } catch (Exception e) {
             return "N/A";
         }
@@ -286,9 +354,14 @@ public class PlaceholderAPIIntegration extends PlaceholderExpansion {
      */
     private String getTopIslandLeader(int rank) {
         try {
-            List<IslandData> topIslands = plugin.getLeaderboardManager().getTopIslands(rank);
-            if (topIslands.size() >= rank) {
-                String leader = topIslands.get(rank - 1).getLeader();
+            String leader = plugin.getLeaderboardManager().getSnapshot().getTopLeader(rank);
+            if (leader != null) {
+                return leader;
+            }
+
+            IslandData island = plugin.getLeaderboardManager().getIslandAtRank(rank);
+            if (island != null) {
+                leader = island.getLeader();
                 return leader != null ? leader : "N/A";
             }
             return "N/A";
@@ -302,13 +375,59 @@ public class PlaceholderAPIIntegration extends PlaceholderExpansion {
      */
     private String getTopIslandPoints(int rank) {
         try {
-            List<IslandData> topIslands = plugin.getLeaderboardManager().getTopIslands(rank);
-            if (topIslands.size() >= rank) {
-                return String.valueOf(topIslands.get(rank - 1).getPayoutPoints());
-            }
-            return "0";
+            // Points as captured in the snapshot, so they always match the displayed order
+            String points = plugin.getLeaderboardManager().getSnapshot().getTopPoints(rank);
+            return points != null ? points : String.valueOf(plugin.getLeaderboardManager().getPointsAtRank(rank));
         } catch (Exception e) {
             return "0";
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Renders one placeholder; island is null for placeholders registered as global
+     */
+    @FunctionalInterface
+    private interface Handler {
+        String apply(Player player, IslandData island);
+    }
+
+    private static final class Placeholder {
+        private final Handler handler;
+        private final String noIslandValue; // Null if the placeholder does not need an island
+
+        private Placeholder(Handler handler, String noIslandValue) {
+            this.handler = handler;
+            this.noIslandValue = noIslandValue;
+        }
+    }
+
+    /**
+     * One cached render, valid until it expires, its island changes, the ranking changes
+     * or a new leaderboard snapshot is published
+     */
+    private static final class Rendered {
+        private final String value;
+        private final long expiresAt;
+        private final IslandData island; // Null for global placeholders and players without an island
+        private final long islandVersion;
+        private final long indexVersion;
+        private final long snapshotVersion;
+
+        private Rendered(String value, long expiresAt, IslandData island, long islandVersion,
+                         long indexVersion, long snapshotVersion) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.island = island;
+            this.islandVersion = islandVersion;
+            this.indexVersion = indexVersion;
+            this.snapshotVersion = snapshotVersion;
+        }
+
+        private boolean isValid(long now, long currentIndexVersion, long currentSnapshotVersion) {
+            return now < expiresAt
+                    && indexVersion == currentIndexVersion
+                    && snapshotVersion == currentSnapshotVersion
+                    && (island == null || island.getVersion() == islandVersion);
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.ninja.islandwallet.commands;
 
 import com.ninja.islandwallet.IslandWalletPlugin;
+import com.ninja.islandwallet.data.SQLiteManager;
+import com.ninja.islandwallet.managers.PayoutManager;
+import com.ninja.islandwallet.managers.TransactionLedger;
 import com.ninja.islandwallet.models.IslandData;
+import com.ninja.islandwallet.models.LedgerEntry;
 import com.ninja.islandwallet.models.PayoutWinner;
 import com.ninja.islandwallet.utils.MessageUtil;
 import net.milkbowl.vault.economy.Economy;
@@ -17,6 +21,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * ENHANCED command handler with fixed placeholders and full color support
@@ -33,6 +38,13 @@ public class IslandWalletCommand implements CommandExecutor, TabCompleter {
 
     @Override
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        // Island data is still loading - only help and admin commands work meanwhile
+        if (!plugin.getStartupManager().isReady() && (command.getName().equalsIgnoreCase("payout") ||
+                (args.length > 0 && !args[0].equalsIgnoreCase("help") && !args[0].equalsIgnoreCase("admin")))) {
+            sendLoadingMessage(sender);
+            return true;
+        }
+
         // ENHANCED: Handle payout command
         if (command.getName().equalsIgnoreCase("payout")) {
             return handlePayoutCommand(sender);
@@ -82,8 +94,7 @@ public class IslandWalletCommand implements CommandExecutor, TabCompleter {
 
         if (isOnCooldown(player, "leaderboard")) {
             long remainingTime = getRemainingCooldown(player, "leaderboard");
-            String message = MessageUtil.replacePlaceholders(
-                    plugin.getConfigManager().getMessage("command-cooldown"),
+            String message = plugin.getConfigManager().formatMessage("command-cooldown",
                     "{seconds}", String.valueOf(remainingTime));
             player.sendMessage(plugin.getConfigManager().getPrefix() + message);
             return true;
@@ -115,8 +126,7 @@ public class IslandWalletCommand implements CommandExecutor, TabCompleter {
 
             Player targetPlayer = Bukkit.getPlayer(args[1]);
             if (targetPlayer == null) {
-                String message = MessageUtil.replacePlaceholders(
-                        plugin.getConfigManager().getMessage("player-not-found"),
+                String message = plugin.getConfigManager().formatMessage("player-not-found",
                         "{player}", args[1]);
                 player.sendMessage(plugin.getConfigManager().getPrefix() + message);
                 return true;
@@ -147,8 +157,7 @@ public class IslandWalletCommand implements CommandExecutor, TabCompleter {
 
         if (isOnCooldown(player, "balance")) {
             long remainingTime = getRemainingCooldown(player, "balance");
-            String message = MessageUtil.replacePlaceholders(
-                    plugin.getConfigManager().getMessage("command-cooldown"),
+            String message = plugin.getConfigManager().formatMessage("command-cooldown",
                     "{seconds}", String.valueOf(remainingTime));
             player.sendMessage(plugin.getConfigManager().getPrefix() + message);
             return true;
@@ -186,8 +195,7 @@ public class IslandWalletCommand implements CommandExecutor, TabCompleter {
 
         if (isOnCooldown(player, "purchase")) {
             long remainingTime = getRemainingCooldown(player, "purchase");
-            String message = MessageUtil.replacePlaceholders(
-                    plugin.getConfigManager().getMessage("command-cooldown"),
+            String message = plugin.getConfigManager().formatMessage("command-cooldown",
                     "{seconds}", String.valueOf(remainingTime));
             player.sendMessage(plugin.getConfigManager().getPrefix() + message);
             return true;
@@ -232,7 +240,7 @@ public class IslandWalletCommand implements CommandExecutor, TabCompleter {
             }
         } else {
             // Default to current or last season
-            int currentSeason = plugin.getDatabaseManager().getCurrentSeason();
+            int currentSeason = plugin.getSeasonHistoryCache().getCurrentSeason();
             season = currentSeason > 1 ? currentSeason - 1 : currentSeason;
         }
 
@@ -300,6 +308,8 @@ public class IslandWalletCommand implements CommandExecutor, TabCompleter {
             case "force" -> handleAdminForce(sender, args);
             case "view" -> handleAdminView(sender, args);
             case "history" -> handleAdminHistory(sender, args);
+            case "ledger" -> handleAdminLedger(sender, args);
+            case "replay" -> handleAdminReplay(sender, args);
             case "reload" -> handleAdminReload(sender);
             case "deposit" -> handleAdminDeposit(sender, args);
             case "withdraw" -> handleAdminWithdraw(sender, args);
@@ -335,7 +345,10 @@ public class IslandWalletCommand implements CommandExecutor, TabCompleter {
 
         switch (forceType) {
             case "complete" -> {
-                plugin.getPayoutManager().forceCompletePayout();
+                if (!plugin.getPayoutManager().forceCompletePayout()) {
+                    sendLoadingMessage(sender);
+                    return true;
+                }
                 sender.sendMessage(plugin.getConfigManager().getPrefix() +
                         plugin.getConfigManager().getMessage("payout-force-complete"));
             }
@@ -396,22 +409,22 @@ public class IslandWalletCommand implements CommandExecutor, TabCompleter {
 
         if (args.length < 3) {
             sender.sendMessage(plugin.getConfigManager().getPrefix() +
-                    "&cUsage: /wallet admin migrate <yaml|sqlite>");
+                    "&cUsage: /wallet admin migrate <yaml|sqlite|binary>");
             return true;
         }
 
         String targetType = args[2].toLowerCase();
-        if (!targetType.equals("yaml") && !targetType.equals("sqlite")) {
+        if (!targetType.equals("yaml") && !targetType.equals("sqlite") && !targetType.equals("binary")) {
             sender.sendMessage(plugin.getConfigManager().getPrefix() +
-                    "&cInvalid storage type! Use 'yaml' or 'sqlite'");
+                    "&cInvalid storage type! Use 'yaml', 'sqlite' or 'binary'");
             return true;
         }
 
         // Trigger migration
         boolean success = plugin.getWalletManager().migrateStorage(targetType);
         if (success) {
-            String message = plugin.getConfigManager().getMessage("admin-migrate-success")
-                    .replace("{type}", targetType);
+            String message = plugin.getConfigManager().formatMessage("admin-migrate-success",
+                    "{type}", targetType);
             sender.sendMessage(plugin.getConfigManager().getPrefix() + message);
         } else {
             String message = plugin.getConfigManager().getMessage("admin-migrate-failed");
@@ -502,8 +515,7 @@ public class IslandWalletCommand implements CommandExecutor, TabCompleter {
 
         Player targetPlayer = Bukkit.getPlayer(args[2]);
         if (targetPlayer == null) {
-            String message = MessageUtil.replacePlaceholders(
-                    plugin.getConfigManager().getMessage("player-not-found"),
+            String message = plugin.getConfigManager().formatMessage("player-not-found",
                     "{player}", args[2]);
             sender.sendMessage(plugin.getConfigManager().getPrefix() + message);
             return true;
@@ -526,8 +538,7 @@ public class IslandWalletCommand implements CommandExecutor, TabCompleter {
 
         boolean success = plugin.getWalletManager().adminDepositGems(targetPlayer, amount);
         if (success) {
-            String message = MessageUtil.replacePlaceholders(
-                    plugin.getConfigManager().getMessage("admin-deposit-success"),
+            String message = plugin.getConfigManager().formatMessage("admin-deposit-success",
                     "{amount}", MessageUtil.formatNumber(amount),
                     "{player}", targetPlayer.getName());
             sender.sendMessage(plugin.getConfigManager().getPrefix() + message);
@@ -557,8 +568,7 @@ public class IslandWalletCommand implements CommandExecutor, TabCompleter {
 
         Player targetPlayer = Bukkit.getPlayer(args[2]);
         if (targetPlayer == null) {
-            String message = MessageUtil.replacePlaceholders(
-                    plugin.getConfigManager().getMessage("player-not-found"),
+            String message = plugin.getConfigManager().formatMessage("player-not-found",
                     "{player}", args[2]);
             sender.sendMessage(plugin.getConfigManager().getPrefix() + message);
             return true;
@@ -581,8 +591,7 @@ public class IslandWalletCommand implements CommandExecutor, TabCompleter {
 
         boolean success = plugin.getWalletManager().adminWithdrawGems(targetPlayer, amount);
         if (success) {
-            String message = MessageUtil.replacePlaceholders(
-                    plugin.getConfigManager().getMessage("admin-withdraw-success"),
+            String message = plugin.getConfigManager().formatMessage("admin-withdraw-success",
                     "{amount}", MessageUtil.formatNumber(amount),
                     "{player}", targetPlayer.getName());
             sender.sendMessage(plugin.getConfigManager().getPrefix() + message);
@@ -604,13 +613,25 @@ public class IslandWalletCommand implements CommandExecutor, TabCompleter {
             return true;
         }
 
-        plugin.getPayoutManager().forceResetCycle();
+        if (!plugin.getPayoutManager().forceResetCycle()) {
+            sendLoadingMessage(sender);
+            return true;
+        }
         sender.sendMessage(plugin.getConfigManager().getPrefix() +
                 plugin.getConfigManager().getMessage("admin-reset-success"));
 
         return true;
     }
 
+    /**
+     * Tell the sender island data is still loading, with the warm-up progress
+     */
+    private void sendLoadingMessage(CommandSender sender) {
+        String message = plugin.getConfigManager().formatMessage("loading-data",
+                "{progress}", String.valueOf(plugin.getStartupManager().getProgress()));
+        sender.sendMessage(plugin.getConfigManager().getPrefix() + message);
+    }
+
     /**
      * ENHANCED: Handle admin view command with fixed placeholders
      */
@@ -627,18 +648,7 @@ public class IslandWalletCommand implements CommandExecutor, TabCompleter {
             return true;
         }
 
-        String islandId = args[2];
-        IslandData islandData = plugin.getWalletManager().getIslandData(islandId);
-
-        if (islandData == null) {
-            String message = MessageUtil.replacePlaceholders(
-                    plugin.getConfigManager().getMessage("island-not-found"),
-                    "{island}", islandId);
-            sender.sendMessage(plugin.getConfigManager().getPrefix() + message);
-            return true;
-        }
-
-        sendIslandInfo(sender, islandData);
+        findIsland(sender, args[2], islandData -> sendIslandInfo(sender, islandData));
         return true;
     }
 
@@ -665,7 +675,7 @@ public class IslandWalletCommand implements CommandExecutor, TabCompleter {
 
         List<PayoutWinner> winners;
         if (season > 0) {
-            winners = plugin.getDatabaseManager().loadPayoutWinners(season);
+            winners = plugin.getSeasonHistoryCache().getWinners(season);
         } else {
             winners = plugin.getDatabaseManager().loadAllPayoutWinners();
         }
@@ -680,6 +690,138 @@ public class IslandWalletCommand implements CommandExecutor, TabCompleter {
         return true;
     }
 
+    /**
+     * Handle admin ledger command - recent gem and point movements of one island
+     */
+    private boolean handleAdminLedger(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("islandwallet.admin.ledger")) {
+            sender.sendMessage(plugin.getConfigManager().getPrefix() +
+                    plugin.getConfigManager().getMessage("no-permission"));
+            return true;
+        }
+
+        if (args.length < 3) {
+            sender.sendMessage(plugin.getConfigManager().getPrefix() +
+                    "&cUsage: /wallet admin ledger <island-id> [count]");
+            return true;
+        }
+
+        int count = 10;
+        if (args.length >= 4) {
+            try {
+                count = Math.max(1, Math.min(100, Integer.parseInt(args[3])));
+            } catch (NumberFormatException e) {
+                sender.sendMessage(plugin.getConfigManager().getPrefix() + "&cInvalid count!");
+                return true;
+            }
+        }
+
+        // Storage read - off the main thread
+        int limit = count;
+        findIsland(sender, args[2], islandData -> Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            List<LedgerEntry> entries = plugin.getTransactionLedger().getRecentEntries(islandData.getIslandUuid(), limit);
+            Bukkit.getScheduler().runTask(plugin, () -> sendLedgerInfo(sender, islandData, entries));
+        }));
+        return true;
+    }
+
+    /**
+     * Handle admin replay command - check an island's balance against its ledger, optionally restoring it
+     */
+    private boolean handleAdminReplay(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("islandwallet.admin.replay")) {
+            sender.sendMessage(plugin.getConfigManager().getPrefix() +
+                    plugin.getConfigManager().getMessage("no-permission"));
+            return true;
+        }
+
+        if (args.length < 3) {
+            sender.sendMessage(plugin.getConfigManager().getPrefix() +
+                    "&cUsage: /wallet admin replay <island-id> [apply]");
+            return true;
+        }
+
+        boolean apply = args.length >= 4 && args[3].equalsIgnoreCase("apply");
+        TransactionLedger ledger = plugin.getTransactionLedger();
+        findIsland(sender, args[2], islandData -> {
+            // Capture the balance and the entries it includes together, before any later movement
+            long currentBalance = islandData.getGems();
+            long lastEntryId = ledger.getLastEntryId();
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+                TransactionLedger.ReplayResult result = ledger.replay(islandData.getIslandUuid(), currentBalance, lastEntryId);
+                Bukkit.getScheduler().runTask(plugin, () -> sendReplayInfo(sender, islandData, result, apply));
+            });
+        });
+        return true;
+    }
+
+    /**
+     * Look an island up without blocking on storage, then continue on the main thread
+     */
+    private void findIsland(CommandSender sender, String islandId, Consumer<IslandData> action) {
+        plugin.getWalletManager().loadIslandDataAsync(islandId).thenAccept(islandData ->
+                Bukkit.getScheduler().runTask(plugin, () -> {
+                    if (islandData == null) {
+                        String message = plugin.getConfigManager().formatMessage("island-not-found",
+                                "{island}", islandId);
+                        sender.sendMessage(plugin.getConfigManager().getPrefix() + message);
+                        return;
+                    }
+                    action.accept(islandData);
+                }));
+    }
+
+    private void sendLedgerInfo(CommandSender sender, IslandData islandData, List<LedgerEntry> entries) {
+        String prefix = plugin.getConfigManager().getPrefix();
+        if (entries.isEmpty()) {
+            sender.sendMessage(prefix + "&cNo ledger entries for " + islandData.getIslandName());
+            return;
+        }
+
+        sender.sendMessage(prefix + "&6Ledger of &e" + islandData.getIslandName() + " &7(newest first):");
+        for (LedgerEntry entry : entries) {
+            String actor = "console";
+            if (entry.getActor() != null) {
+                String name = Bukkit.getOfflinePlayer(entry.getActor()).getName();
+                actor = name != null ? name : entry.getActor().toString();
+            }
+
+            sender.sendMessage(prefix + String.format("&7#%d &f%s %s%s &7-> &f%s %s &7by %s",
+                    entry.getId(),
+                    entry.getKind().name().toLowerCase().replace('_', ' '),
+                    entry.getDelta() >= 0 ? "&a+" : "&c",
+                    MessageUtil.formatNumber(entry.getDelta()),
+                    MessageUtil.formatNumber(entry.getBalance()),
+                    entry.getKind().isPayoutPoints() ? "points" : "gems",
+                    actor));
+        }
+    }
+
+    private void sendReplayInfo(CommandSender sender, IslandData islandData, TransactionLedger.ReplayResult result, boolean apply) {
+        String prefix = plugin.getConfigManager().getPrefix();
+        String ledgerBalance = result.getLedgerBalance() < 0 ? "-" : MessageUtil.formatNumber(result.getLedgerBalance());
+
+        sender.sendMessage(prefix + "&6Ledger replay of &e" + islandData.getIslandName() + "&6:");
+        sender.sendMessage(prefix + "&7Gem entries: &f" + result.getEntryCount() + " &7Gaps: &f" + result.getGapCount());
+        sender.sendMessage(prefix + "&7Ledger balance: &f" + ledgerBalance +
+                " &7Current balance: &f" + MessageUtil.formatNumber(result.getCurrentBalance()));
+
+        if (result.isConsistent()) {
+            sender.sendMessage(prefix + "&aBalance matches the ledger");
+        } else if (!apply) {
+            sender.sendMessage(prefix + "&cBalance does not match the ledger - add 'apply' to restore the ledger balance");
+        } else if (plugin.getTransactionLedger().applyReplay(islandData, result)) {
+            long correction = result.getLedgerBalance() - result.getCurrentBalance();
+            sender.sendMessage(prefix + "&aIsland gems corrected by " + MessageUtil.formatNumber(correction) + " to match the ledger");
+            plugin.getLogger().info(sender.getName() + " corrected island " + islandData.getIslandId() +
+                    " by " + correction + " gems to match its ledger");
+        } else if (result.getLedgerBalance() < 0) {
+            sender.sendMessage(prefix + "&cNo gem history to restore from");
+        } else {
+            sender.sendMessage(prefix + "&cThe island no longer holds enough gems to apply the correction");
+        }
+    }
+
     /**
      * Handle admin reload command
      */
@@ -705,13 +847,11 @@ public class IslandWalletCommand implements CommandExecutor, TabCompleter {
 
         player.sendMessage(prefix + plugin.getConfigManager().getMessage("balance-display"));
 
-        String gemsMessage = MessageUtil.replacePlaceholders(
-                plugin.getConfigManager().getMessage("balance-gems"),
+        String gemsMessage = plugin.getConfigManager().formatMessage("balance-gems",
                 "{gems_formatted}", MessageUtil.formatNumber(islandData.getGems()));
         player.sendMessage(prefix + gemsMessage);
 
-        String payoutMessage = MessageUtil.replacePlaceholders(
-                plugin.getConfigManager().getMessage("balance-payout-points"),
+        String payoutMessage = plugin.getConfigManager().formatMessage("balance-payout-points",
                 "{payout_points_formatted}", MessageUtil.formatNumber(islandData.getPayoutPoints()));
         player.sendMessage(prefix + payoutMessage);
 
@@ -723,18 +863,18 @@ public class IslandWalletCommand implements CommandExecutor, TabCompleter {
 
         // Show point purchase cost in money
         double pointCost = plugin.getConfigManager().getPointCostMoney();
-        String costMessage = plugin.getConfigManager().getMessage("balance-point-cost")
-                .replace("{cost}", MessageUtil.formatMoney(pointCost))
-                .replace("{cost_formatted}", MessageUtil.formatMoney(pointCost));
+        String costMessage = plugin.getConfigManager().formatMessage("balance-point-cost",
+                "{cost}", MessageUtil.formatMoney(pointCost),
+                "{cost_formatted}", MessageUtil.formatMoney(pointCost));
         player.sendMessage(prefix + costMessage);
 
         // Show player's money balance
         Economy economy = plugin.getEconomy();
         if (economy != null) {
             double balance = economy.getBalance(player);
-            String balanceMessage = plugin.getConfigManager().getMessage("balance-money")
-                    .replace("{balance}", MessageUtil.formatMoney(balance))
-                    .replace("{balance_formatted}", MessageUtil.formatMoney(balance));
+            String balanceMessage = plugin.getConfigManager().formatMessage("balance-money",
+                    "{balance}", MessageUtil.formatMoney(balance),
+                    "{balance_formatted}", MessageUtil.formatMoney(balance));
             player.sendMessage(prefix + balanceMessage);
         }
     }
@@ -748,23 +888,23 @@ public class IslandWalletCommand implements CommandExecutor, TabCompleter {
         player.sendMessage(prefix + plugin.getConfigManager().getMessage("info-header"));
         
         // Plugin version
-        String versionMessage = plugin.getConfigManager().getMessage("info-version")
-                .replace("{version}", plugin.getDescription().getVersion());
+        String versionMessage = plugin.getConfigManager().formatMessage("info-version",
+                "{version}", plugin.getDescription().getVersion());
         player.sendMessage(prefix + versionMessage);
         
         // Current season
-        String seasonMessage = plugin.getConfigManager().getMessage("info-season")
-                .replace("{season}", String.valueOf(plugin.getDatabaseManager().getCurrentSeason()));
+        String seasonMessage = plugin.getConfigManager().formatMessage("info-season",
+                "{season}", String.valueOf(plugin.getSeasonHistoryCache().getCurrentSeason()));
         player.sendMessage(prefix + seasonMessage);
         
         // Total islands
-        String islandsMessage = plugin.getConfigManager().getMessage("info-total-islands")
-                .replace("{count}", String.valueOf(plugin.getLeaderboardManager().getTotalParticipatingIslands()));
+        String islandsMessage = plugin.getConfigManager().formatMessage("info-total-islands",
+                "{count}", String.valueOf(plugin.getLeaderboardManager().getTotalParticipatingIslands()));
         player.sendMessage(prefix + islandsMessage);
         
         // Storage type
-        String storageMessage = plugin.getConfigManager().getMessage("info-storage")
-                .replace("{type}", plugin.getConfigManager().getStorageType().toUpperCase());
+        String storageMessage = plugin.getConfigManager().formatMessage("info-storage",
+                "{type}", plugin.getConfigManager().getStorageType().toUpperCase());
         player.sendMessage(prefix + storageMessage);
     }
 
@@ -773,21 +913,21 @@ public class IslandWalletCommand implements CommandExecutor, TabCompleter {
      */
     private void sendTimeInfo(Player player) {
         String prefix = plugin.getConfigManager().getPrefix();
-        long timeRemaining = plugin.getPayoutManager().getTimeUntilNextPayout();
+        PayoutManager.Countdown countdown = plugin.getPayoutManager().getCountdown();
         
         player.sendMessage(prefix + plugin.getConfigManager().getMessage("time-header"));
         
         // Multiple time formats
-        String compactMessage = plugin.getConfigManager().getMessage("time-compact")
-                .replace("{time}", MessageUtil.formatTimeRemainingCompact(timeRemaining));
+        String compactMessage = plugin.getConfigManager().formatMessage("time-compact",
+                "{time}", countdown.getCompact());
         player.sendMessage(prefix + compactMessage);
         
-        String shortMessage = plugin.getConfigManager().getMessage("time-short")
-                .replace("{time}", MessageUtil.formatTimeRemainingShort(timeRemaining));
+        String shortMessage = plugin.getConfigManager().formatMessage("time-short",
+                "{time}", countdown.getShort());
         player.sendMessage(prefix + shortMessage);
         
-        String dhmMessage = plugin.getConfigManager().getMessage("time-dhm")
-                .replace("{time}", MessageUtil.formatTimeRemainingDHM(timeRemaining));
+        String dhmMessage = plugin.getConfigManager().formatMessage("time-dhm",
+                "{time}", countdown.getDHM());
         player.sendMessage(prefix + dhmMessage);
     }
 
@@ -800,27 +940,30 @@ public class IslandWalletCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(prefix + plugin.getConfigManager().getMessage("stats-header"));
         
         // Total gems across all islands
-        long totalGems = plugin.getWalletManager().getAllIslandData().values().stream()
-                .mapToLong(IslandData::getGems)
-                .sum();
-        String gemsMessage = plugin.getConfigManager().getMessage("stats-total-gems")
-                .replace("{gems}", MessageUtil.formatNumber(totalGems));
+        long totalGems = plugin.getWalletManager().getTotalGems();
+        String gemsMessage = plugin.getConfigManager().formatMessage("stats-total-gems",
+                "{gems}", MessageUtil.formatNumber(totalGems));
         sender.sendMessage(prefix + gemsMessage);
         
         // Total payout points
         long totalPoints = plugin.getLeaderboardManager().getTotalPoints();
-        String pointsMessage = plugin.getConfigManager().getMessage("stats-total-points")
-                .replace("{points}", MessageUtil.formatNumber(totalPoints));
+        String pointsMessage = plugin.getConfigManager().formatMessage("stats-total-points",
+                "{points}", MessageUtil.formatNumber(totalPoints));
         sender.sendMessage(prefix + pointsMessage);
         
         // Database type
-        String dbMessage = plugin.getConfigManager().getMessage("stats-database")
-                .replace("{type}", plugin.getConfigManager().getStorageType().toUpperCase());
+        String dbMessage = plugin.getConfigManager().formatMessage("stats-database",
+                "{type}", plugin.getConfigManager().getStorageType().toUpperCase());
         sender.sendMessage(prefix + dbMessage);
+
+        // SQLite writer queue metrics
+        if (plugin.getDatabaseManager() instanceof SQLiteManager sqliteManager) {
+            sender.sendMessage(prefix + "&7Write Queue: &e" + sqliteManager.getWriterStats());
+        }
         
         // Current season
-        String seasonMessage = plugin.getConfigManager().getMessage("stats-season")
-                .replace("{season}", String.valueOf(plugin.getDatabaseManager().getCurrentSeason()));
+        String seasonMessage = plugin.getConfigManager().formatMessage("stats-season",
+                "{season}", String.valueOf(plugin.getSeasonHistoryCache().getCurrentSeason()));
         sender.sendMessage(prefix + seasonMessage);
     }
 
@@ -896,6 +1039,8 @@ public class IslandWalletCommand implements CommandExecutor, TabCompleter {
             sender.sendMessage(prefix + "&c/wallet admin withdraw <player> <amount> &7- Withdraw gems");
             sender.sendMessage(prefix + "&c/wallet admin view <island> &7- View island data");
             sender.sendMessage(prefix + "&c/wallet admin history [season] &7- View payout history");
+            sender.sendMessage(prefix + "&c/wallet admin ledger <island-id> [count] &7- View gem and point movements");
+            sender.sendMessage(prefix + "&c/wallet admin replay <island-id> [apply] &7- Check a balance against the ledger");
             sender.sendMessage(prefix + "&c/wallet admin stats &7- View server statistics");
             sender.sendMessage(prefix + "&c/wallet admin backup &7- Create data backup");
             sender.sendMessage(prefix + "&c/wallet admin migrate <type> &7- Migrate storage type");
@@ -918,9 +1063,11 @@ public class IslandWalletCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(prefix + "&c/wallet admin withdraw <player> <amount> &7- Withdraw gems");
         sender.sendMessage(prefix + "&c/wallet admin view <island-id> &7- View island data");
         sender.sendMessage(prefix + "&c/wallet admin history [season] &7- View payout history");
+        sender.sendMessage(prefix + "&c/wallet admin ledger <island-id> [count] &7- View gem and point movements");
+        sender.sendMessage(prefix + "&c/wallet admin replay <island-id> [apply] &7- Check a balance against the ledger");
         sender.sendMessage(prefix + "&c/wallet admin stats &7- View server statistics");
         sender.sendMessage(prefix + "&c/wallet admin backup &7- Create data backup");
-        sender.sendMessage(prefix + "&c/wallet admin migrate <yaml|sqlite> &7- Migrate storage");
+        sender.sendMessage(prefix + "&c/wallet admin migrate <yaml|sqlite|binary> &7- Migrate storage");
         sender.sendMessage(prefix + "&c/wallet admin cleanup &7- Clean invalid data");
         sender.sendMessage(prefix + "&c/wallet admin test <type> &7- Test components");
         sender.sendMessage(prefix + "&c/wallet admin reload &7- Reload plugin configuration");
@@ -975,12 +1122,12 @@ public class IslandWalletCommand implements CommandExecutor, TabCompleter {
             }
         } else if (args.length == 2 && args[0].equalsIgnoreCase("admin")) {
             if (sender.hasPermission("islandwallet.admin.*")) {
-                completions.addAll(Arrays.asList("reset", "force", "deposit", "withdraw", "view", "history", "stats", "backup", "migrate", "cleanup", "test", "reload"));
+                completions.addAll(Arrays.asList("reset", "force", "deposit", "withdraw", "view", "history", "ledger", "replay", "stats", "backup", "migrate", "cleanup", "test", "reload"));
             }
         } else if (args.length == 3 && args[0].equalsIgnoreCase("admin") && args[1].equalsIgnoreCase("force")) {
             completions.addAll(Arrays.asList("complete", "shutdown"));
         } else if (args.length == 3 && args[0].equalsIgnoreCase("admin") && args[1].equalsIgnoreCase("migrate")) {
-            completions.addAll(Arrays.asList("yaml", "sqlite"));
+            completions.addAll(Arrays.asList("yaml", "sqlite", "binary"));
         } else if (args.length == 3 && args[0].equalsIgnoreCase("admin") && args[1].equalsIgnoreCase("test")) {
             completions.addAll(Arrays.asList("database", "economy", "placeholders"));
         } else if (args.length == 3 && args[0].equalsIgnoreCase("get")) {
@@ -989,7 +1136,7 @@ public class IslandWalletCommand implements CommandExecutor, TabCompleter {
             }
         } else if (args.length == 2 && args[0].equalsIgnoreCase("podium")) {
             // Add season numbers
-            int currentSeason = plugin.getDatabaseManager().getCurrentSeason();
+            int currentSeason = plugin.getSeasonHistoryCache().getCurrentSeason();
             for (int i = 1; i <= currentSeason; i++) {
                 completions.add(String.valueOf(i));
             }
@@ -1,11 +1,17 @@
 package com.ninja.islandwallet.config;
 
 import com.ninja.islandwallet.IslandWalletPlugin;
+import com.ninja.islandwallet.utils.MessageTemplate;
 import com.ninja.islandwallet.utils.MessageUtil;
 import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -15,11 +21,17 @@ public class ConfigManager {
 
     private final IslandWalletPlugin plugin;
     private FileConfiguration config;
+    private volatile Map<String, MessageTemplate> messages = Collections.emptyMap();
+    private volatile String prefix = "";
+    private volatile String placeholderLoadingText = "Loading...";
+    private volatile long placeholderCacheTtlMillis = 250;
 
     public ConfigManager(IslandWalletPlugin plugin) {
         this.plugin = plugin;
         plugin.saveDefaultConfig();
         this.config = plugin.getConfig();
+        compileMessages();
+        compilePlaceholderSettings();
     }
 
     /**
@@ -28,13 +40,15 @@ public class ConfigManager {
     public void reload() {
         plugin.reloadConfig();
         this.config = plugin.getConfig();
+        compileMessages();
+        compilePlaceholderSettings();
         plugin.getLogger().info("Configuration reloaded successfully");
     }
 
     // Storage settings
     public String getStorageType() {
         String type = config.getString("storage.type", "sqlite").toLowerCase();
-        if (!type.equals("sqlite") && !type.equals("yaml")) {
+        if (!type.equals("sqlite") && !type.equals("yaml") && !type.equals("binary")) {
             plugin.getLogger().warning("Invalid storage type '" + type + "', using sqlite");
             return "sqlite";
         }
@@ -50,6 +64,210 @@ public class ConfigManager {
         return filename.trim();
     }
 
+    // Write-behind persistence settings
+    public long getWriteBehindFlushIntervalTicks() {
+        long interval = config.getLong("storage.write-behind.flush-interval-ticks", 100);
+        if (interval < 1) {
+            plugin.getLogger().warning("Invalid write-behind flush interval (" + interval + "), using 100 ticks");
+            return 100;
+        }
+        return interval;
+    }
+
+    public int getWriteBehindMaxBatchSize() {
+        int size = config.getInt("storage.write-behind.max-batch-size", 500);
+        if (size < 1) {
+            plugin.getLogger().warning("Invalid write-behind batch size (" + size + "), using 500");
+            return 500;
+        }
+        return size;
+    }
+
+    // Island cache settings
+    public int getIslandCacheMaxResident() {
+        int max = config.getInt("storage.cache.max-resident", 10000);
+        if (max < 0) {
+            plugin.getLogger().warning("Invalid island cache size (" + max + "), using 10000");
+            return 10000;
+        }
+        return max;
+    }
+
+    public long getIslandCacheIdleMinutes() {
+        long minutes = config.getLong("storage.cache.idle-minutes", 30);
+        if (minutes < 0) {
+            plugin.getLogger().warning("Invalid island cache idle time (" + minutes + "), using 30 minutes");
+            return 30;
+        }
+        return minutes;
+    }
+
+    /**
+     * False when both limits are 0, which keeps every island resident
+     */
+    public boolean isIslandCacheBounded() {
+        return getIslandCacheMaxResident() > 0 || getIslandCacheIdleMinutes() > 0;
+    }
+
+    public int getStartupLoaderThreads() {
+        int threads = config.getInt("storage.startup.loader-threads", 4);
+        if (threads < 1 || threads > 16) {
+            plugin.getLogger().warning("Invalid startup loader thread count (" + threads + "), using 4");
+            return 4;
+        }
+        return threads;
+    }
+
+    // YAML shard settings
+    public int getYamlShardCount() {
+        int shards = config.getInt("storage.yaml.shard-count", 256);
+        if (shards < 16 || shards > 4096 || Integer.bitCount(shards) != 1) {
+            plugin.getLogger().warning("Invalid YAML shard count (" + shards + "), using 256");
+            return 256;
+        }
+        return shards;
+    }
+
+    public long getYamlFlushDelayMillis() {
+        long delay = config.getLong("storage.yaml.flush-delay-ms", 1000);
+        if (delay < 0) {
+            plugin.getLogger().warning("Invalid YAML flush delay (" + delay + "), using 1000");
+            return 1000;
+        }
+        return delay;
+    }
+
+    // Gem transfer reconciliation settings
+    public int getGemTransferBatchSize() {
+        int size = config.getInt("gem-transfer.players-per-tick", 100);
+        if (size < 1) {
+            plugin.getLogger().warning("Invalid gem transfer batch size (" + size + "), using 100");
+            return 100;
+        }
+        return size;
+    }
+
+    public int getGemTransferRetryDelayTicks() {
+        int ticks = config.getInt("gem-transfer.retry-delay-ticks", 20);
+        if (ticks < 1) {
+            plugin.getLogger().warning("Invalid gem transfer retry delay (" + ticks + "), using 20");
+            return 20;
+        }
+        return ticks;
+    }
+
+    public int getGemTransferMaxAttempts() {
+        int attempts = config.getInt("gem-transfer.max-attempts", 5);
+        if (attempts < 1) {
+            plugin.getLogger().warning("Invalid gem transfer attempt limit (" + attempts + "), using 5");
+            return 5;
+        }
+        return attempts;
+    }
+
+    // Transaction ledger settings
+    public boolean isLedgerEnabled() {
+        return config.getBoolean("ledger.enabled", true);
+    }
+
+    public int getLedgerFlushIntervalTicks() {
+        int ticks = config.getInt("ledger.flush-interval-ticks", 40);
+        if (ticks < 1) {
+            plugin.getLogger().warning("Invalid ledger flush interval (" + ticks + "), using 40");
+            return 40;
+        }
+        return ticks;
+    }
+
+    // Binary journal settings
+    public int getBinaryJournalSizeMb() {
+        int size = config.getInt("storage.binary.journal-size-mb", 64);
+        if (size < 1 || size > 1024) {
+            plugin.getLogger().warning("Invalid binary journal size (" + size + "MB), using 64MB");
+            return 64;
+        }
+        return size;
+    }
+
+    public long getBinaryGroupCommitMillis() {
+        long millis = config.getLong("storage.binary.group-commit-ms", 20);
+        if (millis < 1 || millis > 1000) {
+            plugin.getLogger().warning("Invalid binary group commit interval (" + millis + "ms), using 20ms");
+            return 20;
+        }
+        return millis;
+    }
+
+    public long getBinaryCompactIntervalMinutes() {
+        long minutes = config.getLong("storage.binary.compact-interval-minutes", 10);
+        if (minutes < 1) {
+            plugin.getLogger().warning("Invalid binary compaction interval (" + minutes + " minutes), using 10");
+            return 10;
+        }
+        return minutes;
+    }
+
+    // SQLite writer thread settings
+    public int getSqliteWriterQueueCapacity() {
+        int capacity = config.getInt("storage.sqlite.writer-queue-capacity", 10000);
+        if (capacity < 16) {
+            plugin.getLogger().warning("Invalid SQLite writer queue capacity (" + capacity + "), using 10000");
+            return 10000;
+        }
+        return capacity;
+    }
+
+    // SQLite storage profile
+    public String getSqliteJournalMode() {
+        String mode = config.getString("storage.sqlite.journal-mode", "WAL").toUpperCase();
+        if (!Set.of("WAL", "DELETE", "TRUNCATE", "PERSIST", "MEMORY").contains(mode)) {
+            plugin.getLogger().warning("Invalid SQLite journal mode '" + mode + "', using WAL");
+            return "WAL";
+        }
+        return mode;
+    }
+
+    public String getSqliteSynchronous() {
+        String mode = config.getString("storage.sqlite.synchronous", "NORMAL").toUpperCase();
+        if (!Set.of("OFF", "NORMAL", "FULL", "EXTRA").contains(mode)) {
+            plugin.getLogger().warning("Invalid SQLite synchronous mode '" + mode + "', using NORMAL");
+            return "NORMAL";
+        }
+        return mode;
+    }
+
+    public long getSqliteMmapSize() {
+        long size = config.getLong("storage.sqlite.mmap-size", 268435456L);
+        if (size < 0) {
+            plugin.getLogger().warning("Invalid SQLite mmap size (" + size + "), disabling memory mapping");
+            return 0;
+        }
+        return size;
+    }
+
+    public int getSqliteCacheSize() {
+        // Negative values are KiB, positive values are pages (SQLite semantics)
+        return config.getInt("storage.sqlite.cache-size", -16000);
+    }
+
+    public String getSqliteTempStore() {
+        String mode = config.getString("storage.sqlite.temp-store", "MEMORY").toUpperCase();
+        if (!Set.of("DEFAULT", "FILE", "MEMORY").contains(mode)) {
+            plugin.getLogger().warning("Invalid SQLite temp store '" + mode + "', using MEMORY");
+            return "MEMORY";
+        }
+        return mode;
+    }
+
+    public int getSqliteReadPoolSize() {
+        int size = config.getInt("storage.sqlite.read-pool-size", 4);
+        if (size < 0 || size > 32) {
+            plugin.getLogger().warning("Invalid SQLite read pool size (" + size + "), using 4");
+            return 4;
+        }
+        return size;
+    }
+
     // FIXED: Payout settings with proper validation
     public long getPayoutInterval() {
         long interval = config.getLong("payout.interval", 1209600);
@@ -287,17 +505,48 @@ public class ConfigManager {
     }
 
     // FIXED: Messages with validation
-    public String getMessage(String key) {
-        String message = config.getString("messages." + key, "Message not found: " + key);
-        if (message == null || message.trim().isEmpty()) {
-            plugin.getLogger().warning("Empty message for key: " + key);
-            return "Message not found: " + key;
+    /**
+     * Compile every message into a template (on load and reload)
+     */
+    private void compileMessages() {
+        Map<String, MessageTemplate> compiled = new HashMap<>();
+        ConfigurationSection section = config.getConfigurationSection("messages");
+        if (section != null) {
+            for (String key : section.getKeys(false)) {
+                String message = section.getString(key);
+                if (message == null || message.trim().isEmpty()) {
+                    plugin.getLogger().warning("Empty message for key: " + key);
+                    continue;
+                }
+                compiled.put(key, MessageTemplate.compile(
+                        MessageUtil.translateColors(MessageUtil.sanitizeString(message.trim()))));
+            }
         }
-        return MessageUtil.translateColors(MessageUtil.sanitizeString(message.trim()));
+
+        messages = compiled;
+        MessageTemplate prefixTemplate = compiled.get("prefix");
+        prefix = prefixTemplate != null ? prefixTemplate.getText() : "Message not found: prefix";
+    }
+
+    public MessageTemplate getMessageTemplate(String key) {
+        MessageTemplate template = messages.get(key);
+        return template != null ? template : MessageTemplate.compile("Message not found: " + key);
+    }
+
+    public String getMessage(String key) {
+        MessageTemplate template = messages.get(key);
+        return template != null ? template.getText() : "Message not found: " + key;
+    }
+
+    /**
+     * Render a message with placeholder/value pairs, e.g. formatMessage("gems-deposited", "{gems}", "1,000")
+     */
+    public String formatMessage(String key, String... replacements) {
+        return getMessageTemplate(key).render(replacements);
     }
 
     public String getPrefix() {
-        return getMessage("prefix");
+        return prefix;
     }
 
     // FIXED: Cooldowns with validation
@@ -340,6 +589,46 @@ public class ConfigManager {
         return config.getBoolean("placeholders.register-all", true);
     }
 
+    /**
+     * Read the settings placeholders use on every request once (on load and reload)
+     */
+    private void compilePlaceholderSettings() {
+        placeholderLoadingText = MessageUtil.translateColors(config.getString("placeholders.loading-text", "Loading..."));
+
+        int ticks = config.getInt("placeholders.cache-ttl-ticks", 5);
+        if (ticks < 0 || ticks > 200) {
+            plugin.getLogger().warning("Invalid placeholder cache TTL (" + ticks + " ticks), using 5");
+            ticks = 5;
+        }
+        placeholderCacheTtlMillis = ticks * 50L;
+    }
+
+    /**
+     * Placeholder value shown while island data is still loading
+     */
+    public String getPlaceholderLoadingText() {
+        return placeholderLoadingText;
+    }
+
+    /**
+     * How long a rendered placeholder is reused for the same player, 0 to disable caching
+     */
+    public long getPlaceholderCacheTtlMillis() {
+        return placeholderCacheTtlMillis;
+    }
+
+    /**
+     * Leaderboard ranks whose top_<n>_* placeholder strings are prebuilt with every snapshot
+     */
+    public int getPlaceholderTopEntries() {
+        int entries = config.getInt("placeholders.top-entries", 30);
+        if (entries < 0 || entries > 1000) {
+            plugin.getLogger().warning("Invalid placeholder top entries (" + entries + "), using 30");
+            return 30;
+        }
+        return entries;
+    }
+
     // FIXED: Helper methods for validation
     private int validateGuiSize(int size, String guiType) {
         if (size < 9) {
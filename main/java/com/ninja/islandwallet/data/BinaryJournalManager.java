@@ -0,0 +1,859 @@
+package com.ninja.islandwallet.data;
+
+import com.ninja.islandwallet.IslandWalletPlugin;
+import com.ninja.islandwallet.models.IslandChange;
+import com.ninja.islandwallet.models.IslandData;
+import com.ninja.islandwallet.models.LedgerEntry;
+import com.ninja.islandwallet.models.PayoutWinner;
+import com.ninja.islandwallet.utils.FileUtil;
+import com.ninja.islandwallet.utils.UuidUtil;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Binary storage built for write throughput
+ * Islands are kept in memory; on disk there is a compact snapshot (binary/islands.snapshot) plus memory-mapped,
+ * append-only journals of everything changed since (binary/journal-N.dat). A balance change is journaled as a
+ * gem/point delta, so a deposit is one small sequential append. Appends are synced in groups by a background
+ * committer, batch saves sync before returning, and journals are compacted into a new snapshot in the background
+ * Every stored island stays resident as a compact {@link StoredIsland}, independent of the island cache
+ * limits, so memory grows with the number of stored islands
+ */
+public class BinaryJournalManager implements DatabaseManager {
+
+    private static final int SNAPSHOT_MAGIC = 0x49575331; // "IWS1"
+    private static final int JOURNAL_MAGIC = 0x49574A31; // "IWJ1"
+    private static final int JOURNAL_HEADER_SIZE = 16; // magic, reserved, generation
+    private static final int RECORD_OVERHEAD = 8; // length + CRC
+
+    private static final byte RECORD_UPSERT = 1;
+    private static final byte RECORD_DELTA = 2;
+    private static final byte RECORD_DELETE = 3;
+    private static final byte RECORD_RESET_POINTS = 4;
+
+    private final IslandWalletPlugin plugin;
+    private final Map<UUID, StoredIsland> islands = new ConcurrentHashMap<>();
+    private final Object journalLock = new Object();
+    private final Object compactionLock = new Object();
+    private final Object syncLock = new Object();
+    private final AtomicBoolean compactionRequested = new AtomicBoolean(false);
+
+    private File directory;
+    private File snapshotFile;
+    private YamlPayoutStore payoutStore;
+    private LedgerLogFile ledgerLog;
+    private ScheduledExecutorService background;
+    private int journalCapacity;
+
+    // Current journal, guarded by journalLock
+    private long generation;
+    private FileChannel journalChannel;
+    private MappedByteBuffer journal;
+    private long appendedRecords; // Sequence of the last appended record
+
+    // Sequence of the last record known to be on disk; syncs run outside journalLock under syncLock
+    private final AtomicLong syncedRecords = new AtomicLong();
+
+    public BinaryJournalManager(IslandWalletPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public void initialize() {
+        try {
+            File dataFolder = plugin.getDataFolder();
+            directory = new File(dataFolder, "binary");
+            if (!directory.exists() && !directory.mkdirs()) {
+                throw new IOException("Could not create " + directory);
+            }
+
+            payoutStore = new YamlPayoutStore(plugin, dataFolder);
+            payoutStore.load();
+
+            ledgerLog = new LedgerLogFile(new File(dataFolder, "ledger.dat"));
+            ledgerLog.open();
+
+            journalCapacity = plugin.getConfigManager().getBinaryJournalSizeMb() * 1024 * 1024;
+            snapshotFile = new File(directory, "islands.snapshot");
+
+            // Snapshot first, then every journal written after it, in order
+            long snapshotGeneration = loadSnapshot();
+            long nextGeneration = snapshotGeneration;
+            int replayed = 0;
+
+            for (Map.Entry<Long, File> entry : listJournals().entrySet()) {
+                if (entry.getKey() < snapshotGeneration) {
+                    deleteQuietly(entry.getValue()); // Already part of the snapshot
+                    continue;
+                }
+                int records = replayJournal(entry.getValue());
+                if (records == 0) {
+                    deleteQuietly(entry.getValue());
+                }
+                replayed += records;
+                nextGeneration = entry.getKey() + 1;
+            }
+
+            // Always continue in a fresh journal, so nothing is appended after a torn record
+            synchronized (journalLock) {
+                openJournal(nextGeneration);
+            }
+
+            long commitMillis = plugin.getConfigManager().getBinaryGroupCommitMillis();
+            long compactMinutes = plugin.getConfigManager().getBinaryCompactIntervalMinutes();
+
+            AtomicInteger threadCounter = new AtomicInteger();
+            background = Executors.newScheduledThreadPool(2, runnable -> {
+                Thread thread = new Thread(runnable, "IslandWallet-Journal-" + threadCounter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            background.scheduleWithFixedDelay(this::groupCommit, commitMillis, commitMillis, TimeUnit.MILLISECONDS);
+            background.scheduleWithFixedDelay(this::compactQuietly, compactMinutes, compactMinutes, TimeUnit.MINUTES);
+
+            if (replayed > 0) {
+                requestCompaction();
+            }
+
+            plugin.getLogger().info("Binary database initialized successfully (" + islands.size() +
+                    " islands, " + replayed + " journal records replayed)");
+
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to initialize binary database", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (background != null) {
+            background.shutdown();
+            try {
+                background.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        try {
+            // Leave a fresh snapshot behind so the next start has nothing to replay
+            compact();
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to write binary snapshot on shutdown - the journal will be replayed", e);
+        }
+
+        synchronized (journalLock) {
+            closeJournal();
+        }
+
+        if (ledgerLog != null) {
+            try {
+                ledgerLog.close();
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.WARNING, "Failed to close ledger file", e);
+            }
+        }
+    }
+
+    @Override
+    public void saveIslandData(IslandData islandData) {
+        try {
+            synchronized (journalLock) {
+                persist(islandData);
+            }
+
+            if (plugin.getConfigManager().isLogTransactions()) {
+                plugin.getLogger().info("Saved island data: " + islandData.getIslandName() +
+                        " (Gems: " + islandData.getGems() + ", Payout Points: " + islandData.getPayoutPoints() + ")");
+            }
+
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to save island data", e);
+        }
+    }
+
+    @Override
+    public boolean saveIslandDataBatch(Collection<IslandChange> changes) {
+        if (changes == null || changes.isEmpty()) {
+            return true;
+        }
+
+        try {
+            synchronized (journalLock) {
+                for (IslandChange change : changes) {
+                    persist(change.getIslandData());
+                }
+            }
+
+            // The write-behind queue expects the batch to be durable once this returns
+            syncJournal();
+
+            if (plugin.getConfigManager().isLogTransactions()) {
+                plugin.getLogger().info("Saved batch of " + changes.size() + " islands to the binary journal");
+            }
+            return true;
+
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to save island data batch (" + changes.size() + " islands)", e);
+            return false;
+        }
+    }
+
+    /**
+     * Journal an island as a delta when only its balances changed, otherwise as a full record
+     * Caller holds journalLock
+     */
+    private void persist(IslandData islandData) throws IOException {
+        StoredIsland updated = StoredIsland.of(islandData);
+        StoredIsland current = islands.get(updated.key);
+
+        if (current != null && current.hasSameDetails(updated)) {
+            long gemsDelta = updated.gems - current.gems;
+            long pointsDelta = updated.payoutPoints - current.payoutPoints;
+            if (gemsDelta == 0 && pointsDelta == 0) {
+                return;
+            }
+
+            append(ByteBuffer.allocate(33)
+                    .put(RECORD_DELTA)
+                    .putLong(updated.key.getMostSignificantBits())
+                    .putLong(updated.key.getLeastSignificantBits())
+                    .putLong(gemsDelta)
+                    .putLong(pointsDelta)
+                    .array());
+        } else {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(RECORD_UPSERT);
+            updated.write(out);
+            append(bytes.toByteArray());
+        }
+
+        islands.put(updated.key, updated);
+    }
+
+    @Override
+    public IslandData loadIslandData(String islandId) {
+        UUID key = UuidUtil.islandKey(islandId);
+        StoredIsland stored = key != null ? islands.get(key) : null;
+        return stored != null ? stored.toIslandData() : null;
+    }
+
+    @Override
+    public Map<String, IslandData> loadAllIslandData() {
+        Map<String, IslandData> islandDataMap = new HashMap<>();
+        forEachIslandData(islandData -> islandDataMap.put(islandData.getIslandId(), islandData));
+        return islandDataMap;
+    }
+
+    @Override
+    public void forEachIslandData(IslandDataPartition partition, Consumer<IslandData> consumer) {
+        for (StoredIsland stored : islands.values()) {
+            if (Math.floorMod(stored.key.hashCode(), partition.getCount()) == partition.getIndex()) {
+                consumer.accept(stored.toIslandData());
+            }
+        }
+    }
+
+    @Override
+    public int countIslandData() {
+        return islands.size();
+    }
+
+    @Override
+    public void deleteIslandData(String islandId) {
+        UUID key = UuidUtil.islandKey(islandId);
+        if (key == null) {
+            return;
+        }
+
+        try {
+            synchronized (journalLock) {
+                if (islands.containsKey(key)) {
+                    append(ByteBuffer.allocate(17)
+                            .put(RECORD_DELETE)
+                            .putLong(key.getMostSignificantBits())
+                            .putLong(key.getLeastSignificantBits())
+                            .array());
+                    islands.remove(key);
+                }
+            }
+
+            plugin.getLogger().info("Deleted island data for: " + islandId);
+
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to delete island data", e);
+        }
+    }
+
+    @Override
+    public boolean islandExists(String islandId) {
+        UUID key = UuidUtil.islandKey(islandId);
+        return key != null && islands.containsKey(key);
+    }
+
+    @Override
+    public String findIslandIdByMember(String playerName) {
+        if (playerName == null) {
+            return null;
+        }
+
+        for (StoredIsland stored : islands.values()) {
+            if (playerName.equals(stored.leader) || stored.members.contains(playerName)) {
+                return stored.islandId;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void savePayoutWinners(List<PayoutWinner> winners) {
+        payoutStore.savePayoutWinners(winners);
+    }
+
+    @Override
+    public List<PayoutWinner> loadPayoutWinners(int season) {
+        return payoutStore.loadPayoutWinners(season);
+    }
+
+    @Override
+    public PayoutWinner loadPayoutWinner(int season, String islandId) {
+        return payoutStore.loadPayoutWinner(season, islandId);
+    }
+
+    @Override
+    public List<PayoutWinner> loadTopPayoutWinners(int season, int limit) {
+        return payoutStore.loadTopPayoutWinners(season, limit);
+    }
+
+    @Override
+    public List<PayoutWinner> loadAllPayoutWinners() {
+        return payoutStore.loadAllPayoutWinners();
+    }
+
+    @Override
+    public int getCurrentSeason() {
+        return payoutStore.getCurrentSeason();
+    }
+
+    @Override
+    public int getNextSeason() {
+        return payoutStore.getNextSeason();
+    }
+
+    @Override
+    public void resetAllPayoutPoints() {
+        try {
+            synchronized (journalLock) {
+                append(new byte[]{RECORD_RESET_POINTS});
+                islands.replaceAll((key, stored) -> stored.withBalances(stored.gems, 0));
+            }
+
+            // A season reset must be on disk before the next season starts
+            syncJournal();
+
+            plugin.getLogger().info("Reset all payout points to zero (gems preserved)");
+
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to reset payout points", e);
+        }
+    }
+
+    @Override
+    public boolean saveLedgerEntries(List<LedgerEntry> entries) {
+        try {
+            ledgerLog.append(entries);
+            return true;
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to save " + entries.size() + " ledger entries", e);
+            return false;
+        }
+    }
+
+    @Override
+    public List<LedgerEntry> loadLedgerEntries(UUID islandUuid, int limit) {
+        try {
+            return ledgerLog.readRecent(islandUuid, limit);
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to load ledger entries", e);
+            return new ArrayList<>();
+        }
+    }
+
+    // Journal
+
+    private File journalFile(long journalGeneration) {
+        return new File(directory, "journal-" + journalGeneration + ".dat");
+    }
+
+    /**
+     * Journal files on disk by generation
+     */
+    private TreeMap<Long, File> listJournals() {
+        TreeMap<Long, File> journals = new TreeMap<>();
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return journals;
+        }
+
+        for (File file : files) {
+            String name = file.getName();
+            if (name.startsWith("journal-") && name.endsWith(".dat")) {
+                try {
+                    journals.put(Long.parseLong(name.substring(8, name.length() - 4)), file);
+                } catch (NumberFormatException ignored) {
+                    // Not one of ours
+                }
+            }
+        }
+        return journals;
+    }
+
+    /**
+     * Switch appends to a new, zero-filled journal (caller holds journalLock)
+     */
+    private void openJournal(long newGeneration) throws IOException {
+        closeJournal();
+
+        FileChannel channel = FileChannel.open(journalFile(newGeneration).toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, journalCapacity);
+        buffer.putInt(JOURNAL_MAGIC);
+        buffer.putInt(0);
+        buffer.putLong(newGeneration);
+        buffer.force();
+
+        journalChannel = channel;
+        journal = buffer;
+        generation = newGeneration;
+
+        // closeJournal synced everything appended so far
+        long appended = appendedRecords;
+        syncedRecords.accumulateAndGet(appended, Math::max);
+    }
+
+    /**
+     * Sync and release the current journal (caller holds journalLock)
+     */
+    private void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+
+        try {
+            journal.force();
+            journalChannel.close();
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to close journal " + generation, e);
+        }
+        journal = null;
+        journalChannel = null;
+    }
+
+    /**
+     * Append one record: length, record bytes (type first), CRC32 of the record bytes
+     * Caller holds journalLock
+     */
+    private void append(byte[] record) throws IOException {
+        if (journal == null) {
+            throw new IOException("Binary journal is not open");
+        }
+
+        if (journal.remaining() < RECORD_OVERHEAD + record.length) {
+            // Full - keep writing in the next journal; compaction folds both into a snapshot
+            openJournal(generation + 1);
+            requestCompaction();
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(record);
+
+        journal.putInt(record.length);
+        journal.put(record);
+        journal.putInt((int) crc.getValue());
+        appendedRecords++;
+
+        if (journal.position() > journalCapacity / 4 * 3) {
+            requestCompaction();
+        }
+    }
+
+    /**
+     * Force appended records to disk (caller must not hold journalLock)
+     * The journal and sequence are taken under journalLock, the slow force runs outside it so appends
+     * keep going; a sync that finds its records already covered by another one returns at once
+     */
+    private void syncJournal() {
+        MappedByteBuffer target;
+        long sequence;
+        synchronized (journalLock) {
+            if (journal == null || appendedRecords <= syncedRecords.get()) {
+                return;
+            }
+            target = journal;
+            sequence = appendedRecords;
+        }
+
+        synchronized (syncLock) {
+            if (sequence <= syncedRecords.get()) {
+                return;
+            }
+            // A journal replaced meanwhile was already synced when it was closed; forcing it again is harmless
+            target.force();
+            syncedRecords.accumulateAndGet(sequence, Math::max);
+        }
+    }
+
+    /**
+     * Group commit: one sync covers everything appended since the last one
+     */
+    private void groupCommit() {
+        try {
+            syncJournal();
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to sync binary journal", e);
+        }
+    }
+
+    /**
+     * Apply every intact record of a journal to the in-memory state
+     * Stops at the first empty, torn or corrupt record - nothing after it was ever acknowledged as synced
+     *
+     * @return number of records applied
+     */
+    private int replayJournal(File file) throws IOException {
+        int applied = 0;
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < JOURNAL_HEADER_SIZE || buffer.getInt() != JOURNAL_MAGIC) {
+                plugin.getLogger().warning("Skipping unreadable journal " + file.getName());
+                return 0;
+            }
+            buffer.position(JOURNAL_HEADER_SIZE);
+
+            while (buffer.remaining() >= RECORD_OVERHEAD) {
+                int length = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining() - 4) {
+                    break; // End of written records
+                }
+
+                byte[] record = new byte[length];
+                buffer.get(record);
+                int expected = buffer.getInt();
+
+                CRC32 crc = new CRC32();
+                crc.update(record);
+                if ((int) crc.getValue() != expected) {
+                    plugin.getLogger().warning("Journal " + file.getName() + " ends with a torn record - ignoring it");
+                    break;
+                }
+
+                applyRecord(record);
+                applied++;
+            }
+        }
+
+        return applied;
+    }
+
+    private void applyRecord(byte[] record) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+        byte type = in.readByte();
+
+        switch (type) {
+            case RECORD_UPSERT:
+                StoredIsland island = StoredIsland.read(in);
+                islands.put(island.key, island);
+                break;
+            case RECORD_DELTA:
+                UUID deltaKey = new UUID(in.readLong(), in.readLong());
+                long gemsDelta = in.readLong();
+                long pointsDelta = in.readLong();
+                islands.computeIfPresent(deltaKey, (key, stored) ->
+                        stored.withBalances(stored.gems + gemsDelta, stored.payoutPoints + pointsDelta));
+                break;
+            case RECORD_DELETE:
+                islands.remove(new UUID(in.readLong(), in.readLong()));
+                break;
+            case RECORD_RESET_POINTS:
+                islands.replaceAll((key, stored) -> stored.withBalances(stored.gems, 0));
+                break;
+            default:
+                throw new IOException("Unknown journal record type " + type);
+        }
+    }
+
+    // Snapshot and compaction
+
+    private void requestCompaction() {
+        if (background != null && compactionRequested.compareAndSet(false, true)) {
+            try {
+                background.execute(this::compactQuietly);
+            } catch (Exception e) {
+                compactionRequested.set(false); // Shutting down - close() compacts
+            }
+        }
+    }
+
+    private void compactQuietly() {
+        try {
+            compact();
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Binary journal compaction failed - journals are kept", e);
+        }
+    }
+
+    /**
+     * Fold all journals into a new snapshot
+     * Appends move to a new journal first, so they are never blocked while the snapshot is written,
+     * and old journals are only deleted once the snapshot is safely on disk
+     */
+    private void compact() throws IOException {
+        synchronized (compactionLock) {
+            compactionRequested.set(false);
+
+            List<StoredIsland> contents;
+            long snapshotGeneration;
+            synchronized (journalLock) {
+                if (journal == null) {
+                    return;
+                }
+                if (journal.position() == JOURNAL_HEADER_SIZE && listJournals().size() == 1 && snapshotFile.exists()) {
+                    return; // Nothing journaled since the last snapshot
+                }
+
+                snapshotGeneration = generation + 1;
+                openJournal(snapshotGeneration);
+                contents = new ArrayList<>(islands.values());
+            }
+
+            long startTime = System.currentTimeMillis();
+            writeSnapshot(contents, snapshotGeneration);
+
+            for (Map.Entry<Long, File> entry : listJournals().headMap(snapshotGeneration).entrySet()) {
+                deleteQuietly(entry.getValue());
+            }
+
+            if (plugin.getConfigManager().isDebugEnabled()) {
+                plugin.getLogger().info("Compacted binary journal into a snapshot of " + contents.size() +
+                        " islands in " + (System.currentTimeMillis() - startTime) + "ms");
+            }
+        }
+    }
+
+    /**
+     * Write a snapshot: magic, first journal generation not included, island count, islands, CRC32 of all of it
+     */
+    private void writeSnapshot(List<StoredIsland> contents, long snapshotGeneration) throws IOException {
+        File temp = new File(directory, snapshotFile.getName() + ".tmp");
+
+        try (FileOutputStream file = new FileOutputStream(temp)) {
+            CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(file, 1 << 16), new CRC32());
+            DataOutputStream out = new DataOutputStream(checked);
+
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeLong(snapshotGeneration);
+            out.writeInt(contents.size());
+            for (StoredIsland island : contents) {
+                island.write(out);
+            }
+
+            out.writeLong(checked.getChecksum().getValue());
+            out.flush();
+            file.getFD().sync();
+        }
+
+        FileUtil.moveAtomically(temp, snapshotFile);
+    }
+
+    /**
+     * Load the snapshot into memory
+     *
+     * @return the first journal generation to replay on top of it
+     */
+    private long loadSnapshot() throws IOException {
+        if (!snapshotFile.exists()) {
+            return 0;
+        }
+
+        try (FileInputStream file = new FileInputStream(snapshotFile)) {
+            CheckedInputStream checked = new CheckedInputStream(new BufferedInputStream(file, 1 << 16), new CRC32());
+            DataInputStream in = new DataInputStream(checked);
+
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("Not an island snapshot: " + snapshotFile);
+            }
+
+            long snapshotGeneration = in.readLong();
+            int count = in.readInt();
+
+            Map<UUID, StoredIsland> loaded = new HashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                StoredIsland island = StoredIsland.read(in);
+                loaded.put(island.key, island);
+            }
+
+            long expected = checked.getChecksum().getValue();
+            if (in.readLong() != expected) {
+                throw new IOException("Island snapshot checksum mismatch: " + snapshotFile);
+            }
+
+            islands.putAll(loaded);
+            return snapshotGeneration;
+        }
+    }
+
+    private void deleteQuietly(File file) {
+        if (file.exists() && !file.delete()) {
+            plugin.getLogger().warning("Could not delete " + file.getName() + " - retrying after the next compaction");
+        }
+    }
+
+    /**
+     * Immutable stored form of an island, as last written to the journal
+     */
+    private static final class StoredIsland {
+        private final UUID key;
+        private final String islandId;
+        private final String islandName;
+        private final String leader;
+        private final String admin;
+        private final UUID leaderUuid;
+        private final List<String> members;
+        private final long gems;
+        private final long payoutPoints;
+
+        private StoredIsland(UUID key, String islandId, String islandName, String leader, String admin,
+                             UUID leaderUuid, List<String> members, long gems, long payoutPoints) {
+            this.key = key;
+            this.islandId = islandId;
+            this.islandName = islandName;
+            this.leader = leader;
+            this.admin = admin;
+            this.leaderUuid = leaderUuid;
+            this.members = members;
+            this.gems = gems;
+            this.payoutPoints = payoutPoints;
+        }
+
+        private static StoredIsland of(IslandData islandData) {
+            return new StoredIsland(islandData.getIslandUuid(), islandData.getIslandId(), islandData.getIslandName(),
+                    islandData.getLeader(), islandData.getAdmin(), islandData.getLeaderUUID(),
+                    List.copyOf(islandData.getMembers()), islandData.getGems(), islandData.getPayoutPoints());
+        }
+
+        private StoredIsland withBalances(long newGems, long newPayoutPoints) {
+            return new StoredIsland(key, islandId, islandName, leader, admin, leaderUuid, members, newGems, newPayoutPoints);
+        }
+
+        /**
+         * True if everything except the balances matches
+         */
+        private boolean hasSameDetails(StoredIsland other) {
+            return Objects.equals(islandName, other.islandName)
+                    && Objects.equals(leader, other.leader)
+                    && Objects.equals(admin, other.admin)
+                    && Objects.equals(leaderUuid, other.leaderUuid)
+                    && members.equals(other.members);
+        }
+
+        private IslandData toIslandData() {
+            IslandData islandData = new IslandData(islandId, islandName != null ? islandName : "Unknown");
+            islandData.setLeader(leader);
+            islandData.setAdmin(admin);
+            islandData.setLeaderUUID(leaderUuid);
+            islandData.setMembers(members);
+            islandData.setGems(gems);
+            islandData.setPayoutPoints(payoutPoints);
+
+            // Freshly loaded data matches storage
+            islandData.markClean();
+            return islandData;
+        }
+
+        private void write(DataOutputStream out) throws IOException {
+            out.writeUTF(islandId);
+            writeNullable(out, islandName);
+            writeNullable(out, leader);
+            writeNullable(out, admin);
+
+            out.writeBoolean(leaderUuid != null);
+            if (leaderUuid != null) {
+                out.writeLong(leaderUuid.getMostSignificantBits());
+                out.writeLong(leaderUuid.getLeastSignificantBits());
+            }
+
+            out.writeInt(members.size());
+            for (String member : members) {
+                out.writeUTF(member);
+            }
+
+            out.writeLong(gems);
+            out.writeLong(payoutPoints);
+        }
+
+        private static StoredIsland read(DataInputStream in) throws IOException {
+            String islandId = in.readUTF();
+            String islandName = readNullable(in);
+            String leader = readNullable(in);
+            String admin = readNullable(in);
+            UUID leaderUuid = in.readBoolean() ? new UUID(in.readLong(), in.readLong()) : null;
+
+            int memberCount = in.readInt();
+            List<String> members = new ArrayList<>(memberCount);
+            for (int i = 0; i < memberCount; i++) {
+                members.add(in.readUTF());
+            }
+
+            long gems = in.readLong();
+            long payoutPoints = in.readLong();
+
+            return new StoredIsland(UuidUtil.islandKey(islandId), islandId, islandName, leader, admin,
+                    leaderUuid, List.copyOf(members), gems, payoutPoints);
+        }
+
+        private static void writeNullable(DataOutputStream out, String value) throws IOException {
+            out.writeBoolean(value != null);
+            if (value != null) {
+                out.writeUTF(value);
+            }
+        }
+
+        private static String readNullable(DataInputStream in) throws IOException {
+            return in.readBoolean() ? in.readUTF() : null;
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.ninja.islandwallet.data;
 
+import com.ninja.islandwallet.models.IslandChange;
 import com.ninja.islandwallet.models.IslandData;
+import com.ninja.islandwallet.models.LedgerEntry;
 import com.ninja.islandwallet.models.PayoutWinner;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Interface for database operations
@@ -26,6 +31,14 @@ public interface DatabaseManager {
      */
     void saveIslandData(IslandData islandData);
     
+    /**
+     * Save multiple islands in a single batch (one transaction / one file write)
+     * Only the parts flagged dirty in each change need to be written
+     *
+     * @return true if the whole batch was persisted
+     */
+    boolean saveIslandDataBatch(Collection<IslandChange> changes);
+    
     /**
      * Load island data by ID
      */
@@ -36,6 +49,31 @@ public interface DatabaseManager {
      */
     Map<String, IslandData> loadAllIslandData();
     
+    /**
+     * Stream all island data to a consumer, one island at a time, without building a map first
+     * The consumer runs on the storage read thread and should return quickly
+     */
+    default void forEachIslandData(Consumer<IslandData> consumer) {
+        forEachIslandData(IslandDataPartition.ALL, consumer);
+    }
+    
+    /**
+     * Plan disjoint partitions of the island data once, so they can load in parallel without gaps or overlaps
+     */
+    default List<IslandDataPartition> partitionIslandData(int partitions) {
+        return IslandDataPartition.byIndex(partitions);
+    }
+    
+    /**
+     * Stream one partition planned by {@link #partitionIslandData(int)}
+     */
+    void forEachIslandData(IslandDataPartition partition, Consumer<IslandData> consumer);
+    
+    /**
+     * Number of stored islands (used for load progress)
+     */
+    int countIslandData();
+    
     /**
      * Delete island data
      */
@@ -46,6 +84,13 @@ public interface DatabaseManager {
      */
     boolean islandExists(String islandId);
     
+    /**
+     * Find the island a player belongs to, by leader or member name
+     *
+     * @return the island ID, or null if the player is not on any stored island
+     */
+    String findIslandIdByMember(String playerName);
+    
     /**
      * Save payout winners
      */
@@ -56,6 +101,18 @@ public interface DatabaseManager {
      */
     List<PayoutWinner> loadPayoutWinners(int season);
     
+    /**
+     * Load one island's result in a season
+     *
+     * @return the winner entry, or null if the island did not place that season
+     */
+    PayoutWinner loadPayoutWinner(int season, String islandId);
+    
+    /**
+     * Load the best ranked winners of a season, ordered by rank
+     */
+    List<PayoutWinner> loadTopPayoutWinners(int season, int limit);
+    
     /**
      * Load all payout winners
      */
@@ -75,4 +132,18 @@ public interface DatabaseManager {
      * Reset all payout points to zero
      */
     void resetAllPayoutPoints();
+    
+    /**
+     * Append transaction ledger entries in one batch
+     *
+     * @return true if all entries were persisted
+     */
+    boolean saveLedgerEntries(List<LedgerEntry> entries);
+    
+    /**
+     * Load an island's ledger entries, newest first
+     *
+     * @param limit maximum number of entries, 0 for all
+     */
+    List<LedgerEntry> loadLedgerEntries(UUID islandUuid, int limit);
 }
\ No newline at end of file
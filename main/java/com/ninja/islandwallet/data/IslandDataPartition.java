@@ -0,0 +1,84 @@
+package com.ninja.islandwallet.data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One of several disjoint slices of the stored islands, planned once before a parallel load
+ * Storage with row ids reads the fixed [from, to] range; other storage picks its share by index
+ */
+public final class IslandDataPartition {
+
+    public static final IslandDataPartition ALL = new IslandDataPartition(0, 1, Long.MIN_VALUE, Long.MAX_VALUE);
+
+    private final int index;
+    private final int count;
+    private final long from;
+    private final long to;
+
+    public IslandDataPartition(int index, int count, long from, long to) {
+        this.index = index;
+        this.count = count;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Split into partitions chosen by index only
+     */
+    public static List<IslandDataPartition> byIndex(int count) {
+        List<IslandDataPartition> partitions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            partitions.add(new IslandDataPartition(i, count, Long.MIN_VALUE, Long.MAX_VALUE));
+        }
+        return partitions;
+    }
+
+    /**
+     * Split the row id range [min, max] into contiguous ranges
+     * The outer ranges are open-ended, so rows added after planning still belong to exactly one partition
+     */
+    public static List<IslandDataPartition> byRange(int count, long min, long max) {
+        List<IslandDataPartition> partitions = new ArrayList<>(count);
+        long span = Math.max(0, max - min) / count + 1;
+        for (int i = 0; i < count; i++) {
+            long from = i == 0 ? Long.MIN_VALUE : min + span * i;
+            long to = i == count - 1 ? Long.MAX_VALUE : min + span * (i + 1) - 1;
+            partitions.add(new IslandDataPartition(i, count, from, to));
+        }
+        return partitions;
+    }
+
+    /**
+     * Zero-based position of this partition
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Total number of partitions in the plan
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * First row id of the range (inclusive)
+     */
+    public long getFrom() {
+        return from;
+    }
+
+    /**
+     * Last row id of the range (inclusive)
+     */
+    public long getTo() {
+        return to;
+    }
+
+    @Override
+    public String toString() {
+        return (index + 1) + "/" + count;
+    }
+}
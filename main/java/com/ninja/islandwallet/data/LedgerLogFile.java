@@ -0,0 +1,214 @@
+package com.ninja.islandwallet.data;
+
+import com.ninja.islandwallet.models.LedgerEntry;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only ledger file for the file based storage types
+ * Entries are fixed-size binary records, so the file stays compact at millions of rows.
+ * An in-memory index of each island's record numbers is built once at open, so reading
+ * an island's history touches only its own records
+ */
+public class LedgerLogFile {
+
+    // id, island, actor, kind, delta, balance, timestamp, CRC32
+    private static final int RECORD_SIZE = 8 + 16 + 16 + 1 + 8 + 8 + 8 + 4;
+    private static final int READ_BLOCK_RECORDS = 1024;
+
+    private final File file;
+    private final Map<UUID, RecordList> index = new HashMap<>();
+    private FileChannel channel;
+
+    public LedgerLogFile(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Open the file for appending, cutting off a record torn by a crash
+     */
+    public synchronized void open() throws IOException {
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        long size = channel.size();
+        long intact = size - size % RECORD_SIZE;
+        if (intact != size) {
+            channel.truncate(intact);
+        }
+        channel.position(intact);
+        buildIndex(intact);
+    }
+
+    /**
+     * Scan the file once and note the record numbers of every island
+     */
+    private void buildIndex(long end) throws IOException {
+        index.clear();
+        ByteBuffer block = ByteBuffer.allocate(READ_BLOCK_RECORDS * RECORD_SIZE);
+        long start = 0;
+        while (start < end) {
+            block.clear();
+            block.limit((int) Math.min(block.capacity(), end - start));
+            readFully(block, start);
+
+            int records = block.position() / RECORD_SIZE;
+            int firstRecord = (int) (start / RECORD_SIZE);
+            for (int i = 0; i < records; i++) {
+                int offset = i * RECORD_SIZE;
+                UUID islandUuid = new UUID(block.getLong(offset + 8), block.getLong(offset + 16));
+                index.computeIfAbsent(islandUuid, id -> new RecordList()).add(firstRecord + i);
+            }
+            if (records == 0) {
+                break;
+            }
+            start += (long) records * RECORD_SIZE;
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        // Positional reads leave the append position untouched
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                break;
+            }
+        }
+    }
+
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.force(true);
+            channel.close();
+            channel = null;
+        }
+        index.clear();
+    }
+
+    /**
+     * Append entries with one write and one sync
+     */
+    public synchronized void append(List<LedgerEntry> entries) throws IOException {
+        if (channel == null) {
+            throw new IOException("Ledger file is not open");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(entries.size() * RECORD_SIZE);
+        CRC32 crc = new CRC32();
+        int firstRecord = (int) (channel.position() / RECORD_SIZE);
+        for (LedgerEntry entry : entries) {
+            int start = buffer.position();
+            UUID actor = entry.getActor();
+
+            buffer.putLong(entry.getId());
+            buffer.putLong(entry.getIslandUuid().getMostSignificantBits());
+            buffer.putLong(entry.getIslandUuid().getLeastSignificantBits());
+            buffer.putLong(actor != null ? actor.getMostSignificantBits() : 0);
+            buffer.putLong(actor != null ? actor.getLeastSignificantBits() : 0);
+            buffer.put((byte) entry.getKind().getCode());
+            buffer.putLong(entry.getDelta());
+            buffer.putLong(entry.getBalance());
+            buffer.putLong(entry.getTimestamp());
+
+            crc.reset();
+            crc.update(buffer.array(), start, RECORD_SIZE - 4);
+            buffer.putInt((int) crc.getValue());
+        }
+
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+
+        for (int i = 0; i < entries.size(); i++) {
+            index.computeIfAbsent(entries.get(i).getIslandUuid(), id -> new RecordList()).add(firstRecord + i);
+        }
+    }
+
+    /**
+     * Entries of one island, newest first
+     *
+     * @param limit maximum number of entries, 0 for all
+     */
+    public synchronized List<LedgerEntry> readRecent(UUID islandUuid, int limit) throws IOException {
+        List<LedgerEntry> entries = new ArrayList<>();
+        if (channel == null) {
+            return entries;
+        }
+
+        RecordList records = index.get(islandUuid);
+        if (records == null) {
+            return entries;
+        }
+
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        CRC32 crc = new CRC32();
+        for (int i = records.size - 1; i >= 0; i--) {
+            record.clear();
+            readFully(record, (long) records.values[i] * RECORD_SIZE);
+            if (record.hasRemaining()) {
+                continue; // Short read
+            }
+
+            crc.reset();
+            crc.update(record.array(), 0, RECORD_SIZE - 4);
+            if ((int) crc.getValue() != record.getInt(RECORD_SIZE - 4)) {
+                continue; // Damaged record
+            }
+
+            LedgerEntry entry = readEntry(record, 0, islandUuid);
+            if (entry != null) {
+                entries.add(entry);
+                if (limit > 0 && entries.size() >= limit) {
+                    break;
+                }
+            }
+        }
+
+        return entries;
+    }
+
+    private static LedgerEntry readEntry(ByteBuffer block, int offset, UUID islandUuid) {
+        long actorMost = block.getLong(offset + 24);
+        long actorLeast = block.getLong(offset + 32);
+        LedgerEntry.Kind kind = LedgerEntry.Kind.fromCode(block.get(offset + 40));
+        if (kind == null) {
+            return null;
+        }
+
+        return new LedgerEntry(
+                block.getLong(offset),
+                islandUuid,
+                actorMost == 0 && actorLeast == 0 ? null : new UUID(actorMost, actorLeast),
+                kind,
+                block.getLong(offset + 41),
+                block.getLong(offset + 49),
+                block.getLong(offset + 57)
+        );
+    }
+
+    /**
+     * Growable list of record numbers, oldest first
+     */
+    private static final class RecordList {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
@@ -3,26 +3,103 @@ package com.ninja.islandwallet.data;
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 import com.ninja.islandwallet.IslandWalletPlugin;
+import com.ninja.islandwallet.models.IslandChange;
 import com.ninja.islandwallet.models.IslandData;
+import com.ninja.islandwallet.models.LedgerEntry;
+import com.ninja.islandwallet.models.MemberChanges;
 import com.ninja.islandwallet.models.PayoutWinner;
+import com.ninja.islandwallet.utils.UuidUtil;
 
 import java.io.File;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 
 /**
  * SQLite implementation with separated gems and payout points
+ * All writes run on a single writer thread; reads use a pool of read-only connections when one is configured
  */
 public class SQLiteManager implements DatabaseManager {
 
+    // Island IDs are stored as 16-byte UUID BLOBs
+    private static final String ISLAND_DATA_TABLE_SQL = """
+            CREATE TABLE IF NOT EXISTS island_data (
+                island_id BLOB PRIMARY KEY,
+                island_name TEXT NOT NULL,
+                leader TEXT,
+                admin TEXT,
+                leader_uuid TEXT,
+                members TEXT,
+                gems INTEGER DEFAULT 0,
+                payout_points INTEGER DEFAULT 0,
+                last_updated TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+            )
+        """;
+
+    private static final String ISLAND_MEMBERS_TABLE_SQL = """
+            CREATE TABLE IF NOT EXISTS island_members (
+                island_id BLOB NOT NULL,
+                member_name TEXT NOT NULL,
+                PRIMARY KEY (island_id, member_name)
+            ) WITHOUT ROWID
+        """;
+
+    private static final String SAVE_ISLAND_SQL = """
+            INSERT OR REPLACE INTO island_data 
+            (island_id, island_name, leader, admin, leader_uuid, gems, payout_points, last_updated)
+            VALUES (?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)
+        """;
+
+    private static final String UPDATE_COUNTERS_SQL = """
+            UPDATE island_data SET gems = ?, payout_points = ?, last_updated = CURRENT_TIMESTAMP
+            WHERE island_id = ?
+        """;
+
+    private static final String UPDATE_DETAILS_SQL = """
+            UPDATE island_data SET island_name = ?, leader = ?, admin = ?, leader_uuid = ?,
+            gems = ?, payout_points = ?, last_updated = CURRENT_TIMESTAMP
+            WHERE island_id = ?
+        """;
+
+    // Integer primary key = rowid, so entries are stored in id order without a separate index
+    private static final String LEDGER_TABLE_SQL = """
+            CREATE TABLE IF NOT EXISTS ledger (
+                id INTEGER PRIMARY KEY,
+                island_id BLOB NOT NULL,
+                actor BLOB,
+                kind INTEGER NOT NULL,
+                delta INTEGER NOT NULL,
+                balance INTEGER NOT NULL,
+                created_at INTEGER NOT NULL
+            )
+        """;
+
+    private static final String INSERT_LEDGER_SQL =
+            "INSERT OR IGNORE INTO ledger (id, island_id, actor, kind, delta, balance, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    // Separator used by group_concat when members are folded into island rows (never valid in a player name)
+    private static final String MEMBER_LIST_SEPARATOR = String.valueOf((char) 31);
+
+    private static final String INSERT_MEMBER_SQL = "INSERT OR IGNORE INTO island_members (island_id, member_name) VALUES (?, ?)";
+    private static final String DELETE_MEMBER_SQL = "DELETE FROM island_members WHERE island_id = ? AND member_name = ?";
+    private static final String DELETE_ALL_MEMBERS_SQL = "DELETE FROM island_members WHERE island_id = ?";
+    private static final String SELECT_MEMBERS_SQL = "SELECT member_name FROM island_members WHERE island_id = ?";
+
     private final IslandWalletPlugin plugin;
     private final Gson gson;
     private Connection connection;
+    private SQLiteStatementCache writerStatements;
+    private SQLiteWriter writer;
+    private SQLiteReadPool readPool;
 
     public SQLiteManager(IslandWalletPlugin plugin) {
         this.plugin = plugin;
@@ -38,34 +115,74 @@ public class SQLiteManager implements DatabaseManager {
             }
 
             String dbPath = new File(dataFolder, plugin.getConfigManager().getDatabaseFile()).getAbsolutePath();
-            connection = DriverManager.getConnection("jdbc:sqlite:" + dbPath);
+            String url = "jdbc:sqlite:" + dbPath;
+            connection = DriverManager.getConnection(url);
+            applyStorageProfile();
+            writerStatements = new SQLiteStatementCache(plugin, connection);
+            writer = new SQLiteWriter(plugin, plugin.getConfigManager().getSqliteWriterQueueCapacity());
 
             createTables();
-            plugin.getLogger().info("SQLite database initialized successfully");
+
+            int readPoolSize = plugin.getConfigManager().getSqliteReadPoolSize();
+            if (readPoolSize > 0) {
+                readPool = new SQLiteReadPool(plugin, url, readPoolSize, getConnectionPragmas());
+            }
+
+            plugin.getLogger().info("SQLite database initialized successfully (read connections: " + readPoolSize + ")");
 
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to initialize SQLite database", e);
         }
     }
 
+    /**
+     * Apply the configured journal mode and per-connection PRAGMAs to the writer connection
+     */
+    private void applyStorageProfile() throws SQLException {
+        String journalMode = plugin.getConfigManager().getSqliteJournalMode();
+
+        try (Statement stmt = connection.createStatement()) {
+            // journal_mode is stored in the database file, so it only needs to be set on one connection
+            try (ResultSet rs = stmt.executeQuery("PRAGMA journal_mode = " + journalMode)) {
+                String activeMode = rs.next() ? rs.getString(1) : null;
+                if (!journalMode.equalsIgnoreCase(activeMode)) {
+                    plugin.getLogger().warning("SQLite journal mode " + journalMode + " was not applied (active: " + activeMode + ")");
+                }
+            }
+
+            for (String pragma : getConnectionPragmas()) {
+                stmt.execute(pragma);
+            }
+        }
+    }
+
+    /**
+     * PRAGMAs that must be set on every connection
+     */
+    private List<String> getConnectionPragmas() {
+        return List.of(
+                "PRAGMA synchronous = " + plugin.getConfigManager().getSqliteSynchronous(),
+                "PRAGMA mmap_size = " + plugin.getConfigManager().getSqliteMmapSize(),
+                "PRAGMA cache_size = " + plugin.getConfigManager().getSqliteCacheSize(),
+                "PRAGMA temp_store = " + plugin.getConfigManager().getSqliteTempStore(),
+                "PRAGMA busy_timeout = 5000"
+        );
+    }
+
+    /**
+     * Run a read on the read pool, or on the writer thread when the pool is disabled
+     */
+    private <T> T read(SQLiteReadPool.ReadTask<T> task) throws SQLException {
+        if (readPool != null) {
+            return readPool.read(task);
+        }
+        return writer.call(() -> task.run(writerStatements));
+    }
+
     /**
      * Create database tables with separated gems and payout points
      */
     private void createTables() throws SQLException {
-        String islandDataTable = """
-            CREATE TABLE IF NOT EXISTS island_data (
-                island_id TEXT PRIMARY KEY,
-                island_name TEXT NOT NULL,
-                leader TEXT,
-                admin TEXT,
-                leader_uuid TEXT,
-                members TEXT,
-                gems INTEGER DEFAULT 0,
-                payout_points INTEGER DEFAULT 0,
-                last_updated TIMESTAMP DEFAULT CURRENT_TIMESTAMP
-            )
-        """;
-
         String payoutWinnersTable = """
             CREATE TABLE IF NOT EXISTS payout_winners (
                 id INTEGER PRIMARY KEY AUTOINCREMENT,
@@ -86,13 +203,29 @@ public class SQLiteManager implements DatabaseManager {
             )
         """;
 
+        // Older databases must be converted before the current tables and indexes are created
+        migrateFromOldSchema();
+        migrateIslandKeysToBlob();
+
         try (Statement stmt = connection.createStatement()) {
-            stmt.execute(islandDataTable);
+            stmt.execute(ISLAND_DATA_TABLE_SQL);
             stmt.execute(payoutWinnersTable);
             stmt.execute(metadataTable);
+            stmt.execute(ISLAND_MEMBERS_TABLE_SQL);
+            stmt.execute(LEDGER_TABLE_SQL);
+
+            // Player -> island lookups
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_island_members_member ON island_members (member_name)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_island_data_leader ON island_data (leader)");
 
-            // Check if we need to migrate from old schema
-            migrateFromOldSchema();
+            // Payout history lookups by season and by island
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_payout_winners_season_rank ON payout_winners (season, rank)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_payout_winners_island_season ON payout_winners (island_id, season)");
+
+            // An island's ledger history, newest first
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_ledger_island ON ledger (island_id, id)");
+
+            migrateMembersToTable();
 
             // Initialize current season if not exists
             PreparedStatement ps = connection.prepareStatement(
@@ -104,6 +237,125 @@ public class SQLiteManager implements DatabaseManager {
         }
     }
 
+    /**
+     * Declared type of a column, or null if the table or column does not exist
+     */
+    private String getColumnType(String table, String column) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA table_info(" + table + ")")) {
+            while (rs.next()) {
+                if (column.equals(rs.getString("name"))) {
+                    return rs.getString("type");
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Column names of a table
+     */
+    private List<String> getColumnNames(String table) throws SQLException {
+        List<String> columns = new ArrayList<>();
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA table_info(" + table + ")")) {
+            while (rs.next()) {
+                columns.add(rs.getString("name"));
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Convert TEXT island IDs in island_data and island_members to 16-byte BLOB keys (runs once)
+     * SQLite cannot change a column type in place, so both tables are rebuilt in one transaction.
+     * payout_winners keeps its TEXT IDs: it is append-only history and never joined on the hot path
+     */
+    private void migrateIslandKeysToBlob() throws SQLException {
+        if (!"TEXT".equalsIgnoreCase(getColumnType("island_data", "island_id"))) {
+            return; // New database or already migrated
+        }
+
+        boolean hasMembersTable = getColumnType("island_members", "island_id") != null;
+        List<String> islandColumns = getColumnNames("island_data");
+        islandColumns.retainAll(List.of("island_id", "island_name", "leader", "admin", "leader_uuid",
+                "members", "gems", "payout_points", "last_updated"));
+
+        plugin.getLogger().info("Migrating island IDs to binary keys...");
+
+        int islands;
+        int members = 0;
+        connection.setAutoCommit(false);
+        try (Statement stmt = connection.createStatement()) {
+            // Renamed tables take their indexes with them; dropping them below frees the index names
+            stmt.execute("ALTER TABLE island_data RENAME TO island_data_legacy");
+            if (hasMembersTable) {
+                stmt.execute("ALTER TABLE island_members RENAME TO island_members_legacy");
+            }
+
+            stmt.execute(ISLAND_DATA_TABLE_SQL);
+            stmt.execute(ISLAND_MEMBERS_TABLE_SQL);
+
+            islands = copyWithBinaryKeys("island_data_legacy", "island_data", islandColumns);
+            stmt.execute("DROP TABLE island_data_legacy");
+
+            if (hasMembersTable) {
+                members = copyWithBinaryKeys("island_members_legacy", "island_members", List.of("island_id", "member_name"));
+                stmt.execute("DROP TABLE island_members_legacy");
+            }
+
+            connection.commit();
+
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+
+        plugin.getLogger().info("Migrated " + islands + " islands and " + members + " members to binary island keys");
+    }
+
+    /**
+     * Copy rows between tables, converting the island_id column to a BLOB key
+     *
+     * @return number of rows copied
+     */
+    private int copyWithBinaryKeys(String source, String target, List<String> columns) throws SQLException {
+        String columnList = String.join(", ", columns);
+        String placeholders = String.join(", ", Collections.nCopies(columns.size(), "?"));
+        int keyIndex = columns.indexOf("island_id");
+        int copied = 0;
+
+        try (Statement select = connection.createStatement();
+             ResultSet rs = select.executeQuery("SELECT " + columnList + " FROM " + source);
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT OR REPLACE INTO " + target + " (" + columnList + ") VALUES (" + placeholders + ")")) {
+
+            while (rs.next()) {
+                UUID islandKey = UuidUtil.islandKey(rs.getString(keyIndex + 1));
+                if (islandKey == null) {
+                    plugin.getLogger().warning("Skipping " + source + " row without an island ID");
+                    continue;
+                }
+
+                for (int i = 0; i < columns.size(); i++) {
+                    if (i == keyIndex) {
+                        insert.setBytes(i + 1, UuidUtil.toBytes(islandKey));
+                    } else {
+                        insert.setObject(i + 1, rs.getObject(i + 1));
+                    }
+                }
+                insert.addBatch();
+                copied++;
+            }
+
+            insert.executeBatch();
+        }
+
+        return copied;
+    }
+
     /**
      * Migrate from old schema if player_points column exists
      */
@@ -138,8 +390,80 @@ public class SQLiteManager implements DatabaseManager {
         }
     }
 
+    /**
+     * Move member lists from the legacy JSON column into island_members (runs once)
+     */
+    private void migrateMembersToTable() throws SQLException {
+        try (PreparedStatement check = connection.prepareStatement("SELECT 1 FROM metadata WHERE key = 'members_normalized'");
+             ResultSet rs = check.executeQuery()) {
+            if (rs.next()) {
+                return;
+            }
+        }
+
+        int migrated = 0;
+        connection.setAutoCommit(false);
+        try (Statement stmt = connection.createStatement();
+             PreparedStatement insert = connection.prepareStatement(INSERT_MEMBER_SQL)) {
+
+            try (ResultSet rs = stmt.executeQuery("SELECT island_id, members FROM island_data WHERE members IS NOT NULL AND members != ''")) {
+                while (rs.next()) {
+                    byte[] islandKey = rs.getBytes("island_id");
+                    String islandId = String.valueOf(UuidUtil.fromBytes(islandKey));
+                    try {
+                        List<String> members = gson.fromJson(rs.getString("members"), new TypeToken<List<String>>(){}.getType());
+                        if (members == null) {
+                            continue;
+                        }
+                        for (String member : members) {
+                            if (member != null && !member.trim().isEmpty()) {
+                                insert.setBytes(1, islandKey);
+                                insert.setString(2, member.trim());
+                                insert.addBatch();
+                                migrated++;
+                            }
+                        }
+                    } catch (Exception e) {
+                        plugin.getLogger().warning("Skipping unreadable member list for island " + islandId + ": " + e.getMessage());
+                    }
+                }
+            }
+            insert.executeBatch();
+
+            // The JSON column is no longer read or written
+            stmt.execute("UPDATE island_data SET members = NULL");
+            stmt.execute("INSERT INTO metadata (key, value) VALUES ('members_normalized', '1')");
+            connection.commit();
+
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+
+        if (migrated > 0) {
+            plugin.getLogger().info("Migrated " + migrated + " island members to the island_members table");
+        }
+    }
+
     @Override
     public void close() {
+        // Let queued writes finish before the connection goes away
+        if (writer != null) {
+            writer.shutdown();
+        }
+
+        if (readPool != null) {
+            readPool.close();
+            readPool = null;
+        }
+
+        if (writerStatements != null) {
+            writerStatements.invalidate();
+            writerStatements = null;
+        }
+
         try {
             if (connection != null && !connection.isClosed()) {
                 connection.close();
@@ -151,46 +475,291 @@ public class SQLiteManager implements DatabaseManager {
 
     @Override
     public void saveIslandData(IslandData islandData) {
-        String sql = """
-            INSERT OR REPLACE INTO island_data 
-            (island_id, island_name, leader, admin, leader_uuid, members, gems, payout_points, last_updated)
-            VALUES (?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)
-        """;
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, islandData.getIslandId());
-            ps.setString(2, islandData.getIslandName());
-            ps.setString(3, islandData.getLeader());
-            ps.setString(4, islandData.getAdmin());
-            ps.setString(5, islandData.getLeaderUUID() != null ? islandData.getLeaderUUID().toString() : null);
-            ps.setString(6, gson.toJson(islandData.getMembers()));
-            ps.setLong(7, islandData.getGems());
-            ps.setLong(8, islandData.getPayoutPoints());
+        writer.execute("save island data for " + islandData.getIslandId(), () -> {
+            writeIslandData(islandData);
+            return null;
+        });
+    }
 
+    /**
+     * Write a full island row and its member list (writer thread only)
+     */
+    private void writeIslandData(IslandData islandData) throws SQLException {
+        connection.setAutoCommit(false);
+        try {
+            PreparedStatement ps = writerStatements.prepare(SAVE_ISLAND_SQL);
+            bindIslandData(ps, islandData);
             ps.executeUpdate();
 
+            replaceMembers(List.of(islandData));
+            connection.commit();
+
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+
+        if (plugin.getConfigManager().isLogTransactions()) {
+            plugin.getLogger().info("Saved island data: " + islandData.getIslandName() +
+                    " (Gems: " + islandData.getGems() + ", Payout Points: " + islandData.getPayoutPoints() + ")");
+        }
+    }
+
+    @Override
+    public boolean saveIslandDataBatch(Collection<IslandChange> changes) {
+        if (changes == null || changes.isEmpty()) {
+            return true;
+        }
+
+        try {
+            return writer.call(() -> writeIslandDataBatch(changes));
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to queue island data batch (" + changes.size() + " islands)", e);
+            return false;
+        }
+    }
+
+    /**
+     * Write a batch of changes in one transaction (writer thread only)
+     */
+    private boolean writeIslandDataBatch(Collection<IslandChange> changes) {
+        // Split row updates by what changed; member changes go to island_members separately
+        List<IslandChange> counterChanges = new ArrayList<>();
+        List<IslandChange> detailChanges = new ArrayList<>();
+        List<IslandChange> memberChanges = new ArrayList<>();
+        List<IslandData> fullSaves = new ArrayList<>();
+
+        for (IslandChange change : changes) {
+            if (change.hasDetailChanges()) {
+                detailChanges.add(change);
+            } else {
+                counterChanges.add(change);
+            }
+
+            if (change.getMemberChanges() != null && !change.getMemberChanges().isEmpty()) {
+                memberChanges.add(change);
+            }
+        }
+
+        try {
+            connection.setAutoCommit(false);
+
+            // Rows that do not exist yet fall back to a full insert
+            fullSaves.addAll(executeUpdates(UPDATE_COUNTERS_SQL, counterChanges, false));
+            fullSaves.addAll(executeUpdates(UPDATE_DETAILS_SQL, detailChanges, true));
+
+            if (!fullSaves.isEmpty()) {
+                PreparedStatement ps = writerStatements.prepare(SAVE_ISLAND_SQL);
+                for (IslandData islandData : fullSaves) {
+                    bindIslandData(ps, islandData);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                // Rows that had to be re-inserted get their whole member list rewritten
+                replaceMembers(fullSaves);
+            }
+
+            writeMemberChanges(memberChanges, fullSaves);
+
+            connection.commit();
+
             if (plugin.getConfigManager().isLogTransactions()) {
-                plugin.getLogger().info("Saved island data: " + islandData.getIslandName() +
-                        " (Gems: " + islandData.getGems() + ", Payout Points: " + islandData.getPayoutPoints() + ")");
+                plugin.getLogger().info("Saved batch of " + changes.size() + " islands in one transaction (" +
+                        fullSaves.size() + " full rows)");
             }
+            return true;
 
         } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to save island data", e);
+            plugin.getLogger().log(Level.SEVERE, "Failed to save island data batch (" + changes.size() + " islands)", e);
+            try {
+                connection.rollback();
+            } catch (SQLException rollbackException) {
+                plugin.getLogger().log(Level.WARNING, "Failed to roll back island data batch", rollbackException);
+            }
+            return false;
+
+        } finally {
+            try {
+                connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                plugin.getLogger().log(Level.WARNING, "Failed to restore auto-commit mode", e);
+            }
         }
     }
 
+    /**
+     * Run a batched partial update and return the islands whose row was missing
+     */
+    private List<IslandData> executeUpdates(String sql, List<IslandChange> changes, boolean includeDetails) throws SQLException {
+        List<IslandData> missingRows = new ArrayList<>();
+        if (changes.isEmpty()) {
+            return missingRows;
+        }
+
+        PreparedStatement ps = writerStatements.prepare(sql);
+        for (IslandChange change : changes) {
+            IslandData islandData = change.getIslandData();
+            int index = 1;
+
+            if (includeDetails) {
+                ps.setString(index++, islandData.getIslandName());
+                ps.setString(index++, islandData.getLeader());
+                ps.setString(index++, islandData.getAdmin());
+                ps.setString(index++, islandData.getLeaderUUID() != null ? islandData.getLeaderUUID().toString() : null);
+            }
+
+            ps.setLong(index++, islandData.getGems());
+            ps.setLong(index++, islandData.getPayoutPoints());
+            ps.setBytes(index, UuidUtil.toBytes(islandData.getIslandUuid()));
+            ps.addBatch();
+        }
+
+        int[] updateCounts = ps.executeBatch();
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] == 0) {
+                missingRows.add(changes.get(i).getIslandData());
+            }
+        }
+
+        return missingRows;
+    }
+
+    /**
+     * Rewrite the complete member list of each island (writer thread only)
+     */
+    private void replaceMembers(List<IslandData> islands) throws SQLException {
+        if (islands.isEmpty()) {
+            return;
+        }
+
+        PreparedStatement deleteAll = writerStatements.prepare(DELETE_ALL_MEMBERS_SQL);
+        PreparedStatement insert = writerStatements.prepare(INSERT_MEMBER_SQL);
+
+        for (IslandData islandData : islands) {
+            byte[] islandKey = UuidUtil.toBytes(islandData.getIslandUuid());
+            deleteAll.setBytes(1, islandKey);
+            deleteAll.addBatch();
+
+            for (String member : islandData.getMembers()) {
+                insert.setBytes(1, islandKey);
+                insert.setString(2, member);
+                insert.addBatch();
+            }
+        }
+
+        deleteAll.executeBatch();
+        insert.executeBatch();
+    }
+
+    /**
+     * Apply incremental member inserts/deletes (writer thread only)
+     * Islands already rewritten in full are skipped
+     */
+    private void writeMemberChanges(List<IslandChange> changes, List<IslandData> rewritten) throws SQLException {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> skip = new HashSet<>();
+        for (IslandData islandData : rewritten) {
+            skip.add(islandData.getIslandUuid());
+        }
+
+        PreparedStatement deleteAll = writerStatements.prepare(DELETE_ALL_MEMBERS_SQL);
+        PreparedStatement deleteOne = writerStatements.prepare(DELETE_MEMBER_SQL);
+        PreparedStatement insert = writerStatements.prepare(INSERT_MEMBER_SQL);
+
+        for (IslandChange change : changes) {
+            UUID islandUuid = change.getIslandData().getIslandUuid();
+            if (skip.contains(islandUuid)) {
+                continue;
+            }
+
+            byte[] islandKey = UuidUtil.toBytes(islandUuid);
+            MemberChanges memberChanges = change.getMemberChanges();
+            if (memberChanges.isReplaced()) {
+                deleteAll.setBytes(1, islandKey);
+                deleteAll.addBatch();
+            } else {
+                for (String member : memberChanges.getRemoved()) {
+                    deleteOne.setBytes(1, islandKey);
+                    deleteOne.setString(2, member);
+                    deleteOne.addBatch();
+                }
+            }
+
+            for (String member : memberChanges.isReplaced() ? memberChanges.getMembers() : memberChanges.getAdded()) {
+                insert.setBytes(1, islandKey);
+                insert.setString(2, member);
+                insert.addBatch();
+            }
+        }
+
+        // Deletes first so a replaced list never loses its new rows
+        deleteAll.executeBatch();
+        deleteOne.executeBatch();
+        insert.executeBatch();
+    }
+
+    /**
+     * Bind island data to the save statement parameters
+     */
+    private void bindIslandData(PreparedStatement ps, IslandData islandData) throws SQLException {
+        ps.setBytes(1, UuidUtil.toBytes(islandData.getIslandUuid()));
+        ps.setString(2, islandData.getIslandName());
+        ps.setString(3, islandData.getLeader());
+        ps.setString(4, islandData.getAdmin());
+        ps.setString(5, islandData.getLeaderUUID() != null ? islandData.getLeaderUUID().toString() : null);
+        ps.setLong(6, islandData.getGems());
+        ps.setLong(7, islandData.getPayoutPoints());
+    }
+
+    /**
+     * Load one island's member names
+     */
+    private List<String> loadMembers(SQLiteStatementCache statements, byte[] islandKey) throws SQLException {
+        List<String> members = new ArrayList<>();
+        PreparedStatement ps = statements.prepare(SELECT_MEMBERS_SQL);
+        ps.setBytes(1, islandKey);
+
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                members.add(rs.getString("member_name"));
+            }
+        }
+        return members;
+    }
+
     @Override
     public IslandData loadIslandData(String islandId) {
         String sql = "SELECT * FROM island_data WHERE island_id = ?";
 
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, islandId);
+        UUID islandUuid = UuidUtil.islandKey(islandId);
+        if (islandUuid == null) {
+            return null;
+        }
 
-            try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) {
-                    return createIslandDataFromResultSet(rs);
+        byte[] islandKey = UuidUtil.toBytes(islandUuid);
+        try {
+            return read(statements -> {
+                PreparedStatement ps = statements.prepare(sql);
+                ps.setBytes(1, islandKey);
+
+                IslandData islandData;
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (!rs.next()) {
+                        return null;
+                    }
+                    islandData = createIslandDataFromResultSet(rs);
                 }
-            }
+
+                islandData.setMembers(loadMembers(statements, islandKey));
+                islandData.markClean();
+                return islandData;
+            });
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to load island data", e);
         }
@@ -201,29 +770,90 @@ public class SQLiteManager implements DatabaseManager {
     @Override
     public Map<String, IslandData> loadAllIslandData() {
         Map<String, IslandData> islandDataMap = new HashMap<>();
-        String sql = "SELECT * FROM island_data";
+        forEachIslandData(islandData -> islandDataMap.put(islandData.getIslandId(), islandData));
+        return islandDataMap;
+    }
 
-        try (PreparedStatement ps = connection.prepareStatement(sql);
-             ResultSet rs = ps.executeQuery()) {
+    /**
+     * Read the rowid bounds once and split them into fixed ranges
+     */
+    @Override
+    public List<IslandDataPartition> partitionIslandData(int partitions) {
+        try {
+            return read(statements -> {
+                PreparedStatement bounds = statements.prepare("SELECT min(rowid), max(rowid) FROM island_data");
+                try (ResultSet rs = bounds.executeQuery()) {
+                    if (!rs.next() || rs.getObject(1) == null) {
+                        return IslandDataPartition.byRange(partitions, 1, 0); // Empty table
+                    }
+                    return IslandDataPartition.byRange(partitions, rs.getLong(1), rs.getLong(2));
+                }
+            });
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to read island row bounds, loading in one partition", e);
+            return List.of(IslandDataPartition.ALL);
+        }
+    }
 
-            while (rs.next()) {
-                IslandData islandData = createIslandDataFromResultSet(rs);
-                islandDataMap.put(islandData.getIslandId(), islandData);
-            }
+    @Override
+    public void forEachIslandData(IslandDataPartition partition, Consumer<IslandData> consumer) {
+        // Members are folded into each row, so one forward-only cursor yields complete islands.
+        // Partitions are contiguous rowid ranges, so each one is a cheap range scan on its own connection
+        String sql = """
+            SELECT d.*,
+                (SELECT group_concat(m.member_name, char(31)) FROM island_members m WHERE m.island_id = d.island_id) AS member_list
+            FROM island_data d
+            WHERE d.rowid BETWEEN ? AND ?
+        """;
+
+        try {
+            read(statements -> {
+                PreparedStatement ps = statements.prepare(sql);
+                ps.setLong(1, partition.getFrom());
+                ps.setLong(2, partition.getTo());
+
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        IslandData islandData = createIslandDataFromResultSet(rs);
+
+                        String memberList = rs.getString("member_list");
+                        if (memberList != null) {
+                            islandData.setMembers(List.of(memberList.split(MEMBER_LIST_SEPARATOR)));
+                        }
+                        islandData.markClean();
+                        consumer.accept(islandData);
+                    }
+                }
+                return null;
+            });
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to load island data (partition " + partition + ")", e);
+        }
+    }
 
+    @Override
+    public int countIslandData() {
+        try {
+            return read(statements -> {
+                PreparedStatement ps = statements.prepare("SELECT COUNT(*) FROM island_data");
+                try (ResultSet rs = ps.executeQuery()) {
+                    return rs.next() ? rs.getInt(1) : 0;
+                }
+            });
         } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to load all island data", e);
+            plugin.getLogger().log(Level.WARNING, "Failed to count island data", e);
         }
 
-        return islandDataMap;
+        return 0;
     }
 
     /**
      * Create IslandData object from ResultSet with separated gems and payout points
+     * Members are loaded separately from island_members; callers mark the result clean
      */
     private IslandData createIslandDataFromResultSet(ResultSet rs) throws SQLException {
         IslandData islandData = new IslandData(
-                rs.getString("island_id"),
+                UuidUtil.fromBytes(rs.getBytes("island_id")),
                 rs.getString("island_name")
         );
 
@@ -235,12 +865,6 @@ public class SQLiteManager implements DatabaseManager {
             islandData.setLeaderUUID(UUID.fromString(leaderUuidString));
         }
 
-        String membersJson = rs.getString("members");
-        if (membersJson != null && !membersJson.isEmpty()) {
-            List<String> members = gson.fromJson(membersJson, new TypeToken<List<String>>(){}.getType());
-            islandData.setMembers(members);
-        }
-
         // Load separated gems and payout points
         islandData.setGems(rs.getLong("gems"));
         islandData.setPayoutPoints(rs.getLong("payout_points"));
@@ -252,27 +876,45 @@ public class SQLiteManager implements DatabaseManager {
     public void deleteIslandData(String islandId) {
         String sql = "DELETE FROM island_data WHERE island_id = ?";
 
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, islandId);
+        UUID islandUuid = UuidUtil.islandKey(islandId);
+        if (islandUuid == null) {
+            return;
+        }
+
+        byte[] islandKey = UuidUtil.toBytes(islandUuid);
+        writer.execute("delete island data for " + islandId, () -> {
+            PreparedStatement ps = writerStatements.prepare(sql);
+            ps.setBytes(1, islandKey);
             ps.executeUpdate();
 
-            plugin.getLogger().info("Deleted island data for: " + islandId);
+            PreparedStatement members = writerStatements.prepare(DELETE_ALL_MEMBERS_SQL);
+            members.setBytes(1, islandKey);
+            members.executeUpdate();
 
-        } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to delete island data", e);
-        }
+            plugin.getLogger().info("Deleted island data for: " + islandId);
+            return null;
+        });
     }
 
     @Override
     public boolean islandExists(String islandId) {
         String sql = "SELECT 1 FROM island_data WHERE island_id = ?";
 
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, islandId);
+        UUID islandUuid = UuidUtil.islandKey(islandId);
+        if (islandUuid == null) {
+            return false;
+        }
 
-            try (ResultSet rs = ps.executeQuery()) {
-                return rs.next();
-            }
+        byte[] islandKey = UuidUtil.toBytes(islandUuid);
+        try {
+            return read(statements -> {
+                PreparedStatement ps = statements.prepare(sql);
+                ps.setBytes(1, islandKey);
+
+                try (ResultSet rs = ps.executeQuery()) {
+                    return rs.next();
+                }
+            });
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to check island existence", e);
         }
@@ -280,6 +922,37 @@ public class SQLiteManager implements DatabaseManager {
         return false;
     }
 
+    @Override
+    public String findIslandIdByMember(String playerName) {
+        if (playerName == null) {
+            return null;
+        }
+
+        String sql = """
+            SELECT island_id FROM island_members WHERE member_name = ?
+            UNION ALL
+            SELECT island_id FROM island_data WHERE leader = ?
+            LIMIT 1
+        """;
+
+        try {
+            return read(statements -> {
+                PreparedStatement ps = statements.prepare(sql);
+                ps.setString(1, playerName);
+                ps.setString(2, playerName);
+
+                try (ResultSet rs = ps.executeQuery()) {
+                    UUID islandUuid = rs.next() ? UuidUtil.fromBytes(rs.getBytes("island_id")) : null;
+                    return islandUuid != null ? islandUuid.toString() : null;
+                }
+            });
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to look up island for member " + playerName, e);
+        }
+
+        return null;
+    }
+
     @Override
     public void savePayoutWinners(List<PayoutWinner> winners) {
         String sql = """
@@ -288,19 +961,22 @@ public class SQLiteManager implements DatabaseManager {
             VALUES (?, ?, ?, ?, ?, ?, ?)
         """;
 
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            for (PayoutWinner winner : winners) {
-                ps.setString(1, winner.getIslandId());
-                ps.setString(2, winner.getIslandName());
-                ps.setString(3, winner.getLeader());
-                ps.setLong(4, winner.getPoints());
-                ps.setInt(5, winner.getRank());
-                ps.setInt(6, winner.getSeason());
-                ps.setTimestamp(7, Timestamp.valueOf(winner.getPayoutDate()));
-                ps.addBatch();
-            }
+        try {
+            writer.call(() -> {
+                PreparedStatement ps = writerStatements.prepare(sql);
+                for (PayoutWinner winner : winners) {
+                    ps.setString(1, winner.getIslandId());
+                    ps.setString(2, winner.getIslandName());
+                    ps.setString(3, winner.getLeader());
+                    ps.setLong(4, winner.getPoints());
+                    ps.setInt(5, winner.getRank());
+                    ps.setInt(6, winner.getSeason());
+                    ps.setTimestamp(7, Timestamp.valueOf(winner.getPayoutDate()));
+                    ps.addBatch();
+                }
 
-            ps.executeBatch();
+                return ps.executeBatch();
+            });
             plugin.getLogger().info("Saved " + winners.size() + " payout winners");
 
         } catch (SQLException e) {
@@ -313,14 +989,18 @@ public class SQLiteManager implements DatabaseManager {
         List<PayoutWinner> winners = new ArrayList<>();
         String sql = "SELECT * FROM payout_winners WHERE season = ? ORDER BY rank ASC";
 
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setInt(1, season);
-
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    winners.add(createPayoutWinnerFromResultSet(rs));
+        try {
+            read(statements -> {
+                PreparedStatement ps = statements.prepare(sql);
+                ps.setInt(1, season);
+
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        winners.add(createPayoutWinnerFromResultSet(rs));
+                    }
                 }
-            }
+                return null;
+            });
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to load payout winners", e);
         }
@@ -328,18 +1008,68 @@ public class SQLiteManager implements DatabaseManager {
         return winners;
     }
 
+    @Override
+    public PayoutWinner loadPayoutWinner(int season, String islandId) {
+        String sql = "SELECT * FROM payout_winners WHERE island_id = ? AND season = ? LIMIT 1";
+
+        try {
+            return read(statements -> {
+                PreparedStatement ps = statements.prepare(sql);
+                ps.setString(1, islandId);
+                ps.setInt(2, season);
+
+                try (ResultSet rs = ps.executeQuery()) {
+                    return rs.next() ? createPayoutWinnerFromResultSet(rs) : null;
+                }
+            });
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to load payout winner", e);
+        }
+
+        return null;
+    }
+
+    @Override
+    public List<PayoutWinner> loadTopPayoutWinners(int season, int limit) {
+        List<PayoutWinner> winners = new ArrayList<>();
+        String sql = "SELECT * FROM payout_winners WHERE season = ? ORDER BY rank ASC LIMIT ?";
+
+        try {
+            read(statements -> {
+                PreparedStatement ps = statements.prepare(sql);
+                ps.setInt(1, season);
+                ps.setInt(2, limit);
+
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        winners.add(createPayoutWinnerFromResultSet(rs));
+                    }
+                }
+                return null;
+            });
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to load top payout winners", e);
+        }
+
+        return winners;
+    }
+
     @Override
     public List<PayoutWinner> loadAllPayoutWinners() {
         List<PayoutWinner> winners = new ArrayList<>();
         String sql = "SELECT * FROM payout_winners ORDER BY season DESC, rank ASC";
 
-        try (PreparedStatement ps = connection.prepareStatement(sql);
-             ResultSet rs = ps.executeQuery()) {
-
-            while (rs.next()) {
-                winners.add(createPayoutWinnerFromResultSet(rs));
-            }
+        try {
+            read(statements -> {
+                PreparedStatement ps = statements.prepare(sql);
+                try (ResultSet rs = ps.executeQuery()) {
 
+                    while (rs.next()) {
+                        winners.add(createPayoutWinnerFromResultSet(rs));
+                    }
+                }
+                return null;
+            });
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to load all payout winners", e);
         }
@@ -364,18 +1094,28 @@ public class SQLiteManager implements DatabaseManager {
 
     @Override
     public int getCurrentSeason() {
+        try {
+            return read(this::readCurrentSeason);
+        } catch (SQLException | NumberFormatException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to get current season", e);
+        }
+
+        return 1; // Default to season 1
+    }
+
+    /**
+     * Read the current season using the given connection's statement cache
+     */
+    private int readCurrentSeason(SQLiteStatementCache statements) throws SQLException {
         String sql = "SELECT value FROM metadata WHERE key = ?";
 
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, "current_season");
+        PreparedStatement ps = statements.prepare(sql);
+        ps.setString(1, "current_season");
 
-            try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) {
-                    return Integer.parseInt(rs.getString("value"));
-                }
+        try (ResultSet rs = ps.executeQuery()) {
+            if (rs.next()) {
+                return Integer.parseInt(rs.getString("value"));
             }
-        } catch (SQLException | NumberFormatException e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to get current season", e);
         }
 
         return 1; // Default to season 1
@@ -383,34 +1123,127 @@ public class SQLiteManager implements DatabaseManager {
 
     @Override
     public int getNextSeason() {
-        int currentSeason = getCurrentSeason();
-        int nextSeason = currentSeason + 1;
-
         String sql = "UPDATE metadata SET value = ? WHERE key = ?";
 
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, String.valueOf(nextSeason));
-            ps.setString(2, "current_season");
-            ps.executeUpdate();
+        try {
+            // Read and increment in one writer task so two payouts can never claim the same season
+            return writer.call(() -> {
+                int nextSeason = readCurrentSeason(writerStatements) + 1;
 
-            return nextSeason;
-        } catch (SQLException e) {
+                PreparedStatement ps = writerStatements.prepare(sql);
+                ps.setString(1, String.valueOf(nextSeason));
+                ps.setString(2, "current_season");
+                ps.executeUpdate();
+
+                return nextSeason;
+            });
+        } catch (SQLException | NumberFormatException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to increment season", e);
         }
 
-        return currentSeason;
+        return getCurrentSeason();
     }
 
     @Override
     public void resetAllPayoutPoints() {
         String sql = "UPDATE island_data SET payout_points = 0";
 
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.executeUpdate();
+        try {
+            writer.call(() -> {
+                PreparedStatement ps = writerStatements.prepare(sql);
+                return ps.executeUpdate();
+            });
             plugin.getLogger().info("Reset all payout points to zero (gems preserved)");
 
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to reset payout points", e);
         }
     }
+
+    @Override
+    public boolean saveLedgerEntries(List<LedgerEntry> entries) {
+        if (entries == null || entries.isEmpty()) {
+            return true;
+        }
+
+        try {
+            return writer.call(() -> {
+                try {
+                    connection.setAutoCommit(false);
+
+                    PreparedStatement ps = writerStatements.prepare(INSERT_LEDGER_SQL);
+                    for (LedgerEntry entry : entries) {
+                        ps.setLong(1, entry.getId());
+                        ps.setBytes(2, UuidUtil.toBytes(entry.getIslandUuid()));
+                        ps.setBytes(3, entry.getActor() != null ? UuidUtil.toBytes(entry.getActor()) : null);
+                        ps.setInt(4, entry.getKind().getCode());
+                        ps.setLong(5, entry.getDelta());
+                        ps.setLong(6, entry.getBalance());
+                        ps.setLong(7, entry.getTimestamp());
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+
+                    connection.commit();
+                    return true;
+
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw e;
+
+                } finally {
+                    connection.setAutoCommit(true);
+                }
+            });
+
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to save " + entries.size() + " ledger entries", e);
+            return false;
+        }
+    }
+
+    @Override
+    public List<LedgerEntry> loadLedgerEntries(UUID islandUuid, int limit) {
+        List<LedgerEntry> entries = new ArrayList<>();
+        String sql = "SELECT id, actor, kind, delta, balance, created_at FROM ledger WHERE island_id = ? ORDER BY id DESC LIMIT ?";
+
+        try {
+            read(statements -> {
+                PreparedStatement ps = statements.prepare(sql);
+                ps.setBytes(1, UuidUtil.toBytes(islandUuid));
+                ps.setInt(2, limit > 0 ? limit : -1); // Negative LIMIT = no limit
+
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        LedgerEntry.Kind kind = LedgerEntry.Kind.fromCode(rs.getInt("kind"));
+                        if (kind == null) {
+                            continue;
+                        }
+
+                        entries.add(new LedgerEntry(
+                                rs.getLong("id"),
+                                islandUuid,
+                                UuidUtil.fromBytes(rs.getBytes("actor")),
+                                kind,
+                                rs.getLong("delta"),
+                                rs.getLong("balance"),
+                                rs.getLong("created_at")
+                        ));
+                    }
+                }
+                return null;
+            });
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to load ledger entries", e);
+        }
+
+        return entries;
+    }
+
+    /**
+     * Writer queue metrics for the admin stats command
+     */
+    public String getWriterStats() {
+        return writer != null ? writer.getStatsSummary() : "not started";
+    }
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.ninja.islandwallet.data;
+
+import com.ninja.islandwallet.IslandWalletPlugin;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.logging.Level;
+
+/**
+ * Small pool of read-only SQLite connections
+ * With WAL enabled, reads on these connections run alongside the writer thread instead of queueing behind it
+ */
+public class SQLiteReadPool {
+
+    private final IslandWalletPlugin plugin;
+    private final List<SQLiteStatementCache> connections = new ArrayList<>();
+    private final BlockingQueue<SQLiteStatementCache> idle;
+
+    public SQLiteReadPool(IslandWalletPlugin plugin, String url, int size, List<String> pragmas) throws SQLException {
+        this.plugin = plugin;
+        this.idle = new ArrayBlockingQueue<>(size);
+
+        try {
+            for (int i = 0; i < size; i++) {
+                Connection connection = DriverManager.getConnection(url);
+                try (Statement stmt = connection.createStatement()) {
+                    for (String pragma : pragmas) {
+                        stmt.execute(pragma);
+                    }
+                    // Any accidental write through a read connection fails instead of bypassing the writer
+                    stmt.execute("PRAGMA query_only = ON");
+                }
+                // Each connection keeps its own statement cache; only the reader holding it uses it
+                SQLiteStatementCache statements = new SQLiteStatementCache(plugin, connection);
+                connections.add(statements);
+                idle.add(statements);
+            }
+        } catch (SQLException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Run a read on a pooled connection, waiting for one to become free
+     */
+    public <T> T read(ReadTask<T> task) throws SQLException {
+        SQLiteStatementCache statements;
+        try {
+            statements = idle.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a read connection", e);
+        }
+
+        try {
+            return task.run(statements);
+        } finally {
+            idle.offer(statements);
+        }
+    }
+
+    public int getSize() {
+        return connections.size();
+    }
+
+    /**
+     * Close every pooled connection and its cached statements
+     */
+    public void close() {
+        for (SQLiteStatementCache statements : connections) {
+            statements.invalidate();
+            try {
+                Connection connection = statements.getConnection();
+                if (!connection.isClosed()) {
+                    connection.close();
+                }
+            } catch (SQLException e) {
+                plugin.getLogger().log(Level.WARNING, "Error closing read connection", e);
+            }
+        }
+        connections.clear();
+        idle.clear();
+    }
+
+    /**
+     * A read against a pooled connection, given that connection's statement cache
+     */
+    @FunctionalInterface
+    public interface ReadTask<T> {
+        T run(SQLiteStatementCache statements) throws SQLException;
+    }
+}
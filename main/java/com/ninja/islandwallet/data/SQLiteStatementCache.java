@@ -0,0 +1,66 @@
+package com.ninja.islandwallet.data;
+
+import com.ninja.islandwallet.IslandWalletPlugin;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+
+/**
+ * Prepared statements for one connection, compiled once and reused by SQL text
+ * Not thread-safe: a cache belongs to its connection, which is only ever used by one thread at a time
+ * (the writer thread, or whichever reader currently holds the pooled connection)
+ * Statements returned here are owned by the cache and must not be closed by callers
+ */
+public class SQLiteStatementCache {
+
+    private final IslandWalletPlugin plugin;
+    private final Connection connection;
+    private final Map<String, PreparedStatement> statements = new HashMap<>();
+
+    public SQLiteStatementCache(IslandWalletPlugin plugin, Connection connection) {
+        this.plugin = plugin;
+        this.connection = connection;
+    }
+
+    /**
+     * Get the cached statement for this SQL, preparing it on first use
+     * Parameters and batch entries left over from the previous use are cleared
+     */
+    public PreparedStatement prepare(String sql) throws SQLException {
+        PreparedStatement ps = statements.get(sql);
+        if (ps == null || ps.isClosed()) {
+            ps = connection.prepareStatement(sql);
+            statements.put(sql, ps);
+        } else {
+            ps.clearParameters();
+            ps.clearBatch();
+        }
+        return ps;
+    }
+
+    public Connection getConnection() {
+        return connection;
+    }
+
+    public int size() {
+        return statements.size();
+    }
+
+    /**
+     * Close and forget every cached statement, e.g. after a schema change
+     */
+    public void invalidate() {
+        for (PreparedStatement ps : statements.values()) {
+            try {
+                ps.close();
+            } catch (SQLException e) {
+                plugin.getLogger().log(Level.FINE, "Error closing cached statement", e);
+            }
+        }
+        statements.clear();
+    }
+}
@@ -0,0 +1,209 @@
+package com.ninja.islandwallet.data;
+
+import com.ninja.islandwallet.IslandWalletPlugin;
+
+import java.sql.SQLException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+/**
+ * Single dedicated writer thread for SQLite
+ * All mutations run here one at a time in submission order. The queue is bounded:
+ * when it is full, submitting threads wait until the writer catches up (backpressure)
+ * Callers that wait must never be the server main thread
+ */
+public class SQLiteWriter {
+
+    private static final long FULL_WARNING_INTERVAL = 30000; // 30 seconds
+    private static final long OFFER_TIMEOUT_MILLIS = 1000; // Re-check for shutdown this often while the queue is full
+
+    private final IslandWalletPlugin plugin;
+    private final ThreadPoolExecutor executor;
+    private final int capacity;
+    private volatile Thread writerThread;
+
+    // Metrics
+    private final AtomicLong submittedTasks = new AtomicLong();
+    private final AtomicLong completedTasks = new AtomicLong();
+    private final AtomicLong failedTasks = new AtomicLong();
+    private final AtomicLong backpressureEvents = new AtomicLong();
+    private volatile int peakQueueDepth;
+    private volatile long lastFullWarning;
+
+    public SQLiteWriter(IslandWalletPlugin plugin, int capacity) {
+        this.plugin = plugin;
+        this.capacity = capacity;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "IslandWallet-SQLite-Writer");
+                    thread.setDaemon(true);
+                    writerThread = thread;
+                    return thread;
+                },
+                this::applyBackpressure);
+    }
+
+    /**
+     * Run a write on the writer thread and wait for its result
+     */
+    public <T> T call(SqlTask<T> task) throws SQLException {
+        // Nested writes from the writer thread itself run inline to avoid a deadlock
+        if (Thread.currentThread() == writerThread) {
+            return task.run();
+        }
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> runTracked(task));
+        } catch (RejectedExecutionException e) {
+            throw new SQLException("SQLite writer rejected the write", e);
+        }
+        recordSubmission();
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for SQLite writer", e);
+        } catch (CancellationException e) {
+            throw new SQLException("SQLite writer shut down before the write ran", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            throw new SQLException("SQLite write failed", cause);
+        }
+    }
+
+    /**
+     * Queue a write without waiting for it; failures are logged
+     */
+    public void execute(String description, SqlTask<?> task) {
+        if (Thread.currentThread() == writerThread) {
+            runLogged(description, task);
+            return;
+        }
+
+        try {
+            executor.execute(() -> runLogged(description, task));
+        } catch (RejectedExecutionException e) {
+            plugin.getLogger().log(Level.SEVERE, "SQLite writer rejected the write to " + description, e);
+            return;
+        }
+        recordSubmission();
+    }
+
+    private void runLogged(String description, SqlTask<?> task) {
+        try {
+            runTracked(task);
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "SQLite writer failed to " + description, e);
+        }
+    }
+
+    private <T> T runTracked(SqlTask<T> task) throws SQLException {
+        try {
+            T result = task.run();
+            completedTasks.incrementAndGet();
+            return result;
+        } catch (SQLException | RuntimeException e) {
+            failedTasks.incrementAndGet();
+            throw e;
+        }
+    }
+
+    private void recordSubmission() {
+        submittedTasks.incrementAndGet();
+        int depth = executor.getQueue().size();
+        if (depth > peakQueueDepth) {
+            peakQueueDepth = depth;
+        }
+    }
+
+    /**
+     * Queue full: wait for room, giving up once the writer shuts down
+     * A task queued after the shutdown would never run, so it is taken back out and its future failed
+     */
+    private void applyBackpressure(Runnable task, ThreadPoolExecutor pool) {
+        if (pool.isShutdown()) {
+            throw new RejectedExecutionException("SQLite writer is shut down");
+        }
+
+        backpressureEvents.incrementAndGet();
+        peakQueueDepth = capacity;
+
+        long now = System.currentTimeMillis();
+        if (now - lastFullWarning > FULL_WARNING_INTERVAL) {
+            lastFullWarning = now;
+            plugin.getLogger().warning("SQLite write queue is full (" + capacity + " tasks) - applying backpressure. " + getStatsSummary());
+        }
+
+        try {
+            while (!pool.getQueue().offer(task, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (pool.isShutdown()) {
+                    throw new RejectedExecutionException("SQLite writer shut down while waiting for queue space");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for SQLite write queue", e);
+        }
+
+        if (pool.isShutdown() && pool.getQueue().remove(task)) {
+            cancel(task);
+            throw new RejectedExecutionException("SQLite writer shut down while waiting for queue space");
+        }
+    }
+
+    private static void cancel(Runnable task) {
+        if (task instanceof Future<?> future) {
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * Stop accepting writes and wait for queued ones to finish
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                plugin.getLogger().severe("SQLite writer did not finish within 30 seconds, " +
+                        executor.getQueue().size() + " writes dropped!");
+                executor.shutdownNow().forEach(SQLiteWriter::cancel);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow().forEach(SQLiteWriter::cancel);
+        }
+    }
+
+    /**
+     * One-line metrics summary for logs and the admin stats command
+     */
+    public String getStatsSummary() {
+        return "queued=" + executor.getQueue().size() + "/" + capacity +
+                ", peak=" + peakQueueDepth +
+                ", submitted=" + submittedTasks.get() +
+                ", completed=" + completedTasks.get() +
+                ", failed=" + failedTasks.get() +
+                ", backpressure=" + backpressureEvents.get();
+    }
+
+    /**
+     * A unit of SQLite work
+     */
+    @FunctionalInterface
+    public interface SqlTask<T> {
+        T run() throws SQLException;
+    }
+}
@@ -0,0 +1,190 @@
+package com.ninja.islandwallet.data;
+
+import com.ninja.islandwallet.IslandWalletPlugin;
+import com.ninja.islandwallet.models.IslandChange;
+import com.ninja.islandwallet.models.IslandData;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * Write-behind persistence for island data
+ * Changed islands are marked dirty and flushed together in one batch on a fixed
+ * interval, or early once the configured batch size is reached
+ */
+public class WriteBehindQueue {
+
+    private final IslandWalletPlugin plugin;
+    private final Supplier<DatabaseManager> databaseManager;
+    private final Map<UUID, IslandData> dirtyIslands = new ConcurrentHashMap<>();
+    private final AtomicBoolean earlyFlushScheduled = new AtomicBoolean(false);
+    private final Object flushLock = new Object();
+
+    private volatile int maxBatchSize;
+    private BukkitTask flushTask;
+
+    public WriteBehindQueue(IslandWalletPlugin plugin, Supplier<DatabaseManager> databaseManager) {
+        this.plugin = plugin;
+        this.databaseManager = databaseManager;
+        this.maxBatchSize = plugin.getConfigManager().getWriteBehindMaxBatchSize();
+    }
+
+    /**
+     * Start the periodic flush task
+     */
+    public void start() {
+        stopTask();
+
+        long interval = plugin.getConfigManager().getWriteBehindFlushIntervalTicks();
+        maxBatchSize = plugin.getConfigManager().getWriteBehindMaxBatchSize();
+
+        flushTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::flush, interval, interval);
+
+        if (plugin.getConfigManager().isDebugEnabled()) {
+            plugin.getLogger().info("Write-behind flush task started (interval: " + interval + " ticks, batch size: " + maxBatchSize + ")");
+        }
+    }
+
+    /**
+     * Mark island data as changed so it is included in the next flush
+     */
+    public void markDirty(IslandData islandData) {
+        dirtyIslands.put(islandData.getIslandUuid(), islandData);
+
+        if (dirtyIslands.size() >= maxBatchSize && earlyFlushScheduled.compareAndSet(false, true)) {
+            try {
+                Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+                    try {
+                        flush();
+                    } finally {
+                        earlyFlushScheduled.set(false);
+                    }
+                });
+            } catch (Exception e) {
+                // Scheduler unavailable (plugin disabling) - the shutdown flush will pick it up
+                earlyFlushScheduled.set(false);
+            }
+        }
+    }
+
+    /**
+     * Drop a pending save, e.g. when the island was deleted
+     */
+    public void discard(UUID islandUuid) {
+        dirtyIslands.remove(islandUuid);
+    }
+
+    /**
+     * Flush all pending islands to storage
+     *
+     * @return number of islands written
+     */
+    public int flush() {
+        synchronized (flushLock) {
+            if (dirtyIslands.isEmpty()) {
+                return 0;
+            }
+
+            DatabaseManager database = databaseManager.get();
+            if (database == null) {
+                return 0;
+            }
+
+            int written = 0;
+            List<IslandChange> batch = new ArrayList<>(Math.min(dirtyIslands.size(), maxBatchSize));
+            Iterator<IslandData> iterator = dirtyIslands.values().iterator();
+
+            while (iterator.hasNext()) {
+                IslandData islandData = iterator.next();
+                iterator.remove();
+
+                // Any change made after this point sets the flags again and re-queues
+                // the island, so consuming them here can never lose an update
+                int dirtyFlags = islandData.consumeDirtyFlags();
+                if (dirtyFlags == 0) {
+                    continue; // Nothing changed since the last save
+                }
+                batch.add(new IslandChange(islandData, dirtyFlags));
+
+                if (batch.size() >= maxBatchSize) {
+                    if (!writeBatch(database, batch)) {
+                        // Storage is failing - leave the rest queued for the next flush
+                        return written;
+                    }
+                    written += batch.size();
+                    batch = new ArrayList<>(maxBatchSize);
+                }
+            }
+
+            if (!batch.isEmpty() && writeBatch(database, batch)) {
+                written += batch.size();
+            }
+
+            return written;
+        }
+    }
+
+    /**
+     * Flush, then run an action before any other flush can start
+     * Used by cache eviction, which must only see islands whose saves are complete
+     */
+    public void flushAndRun(Runnable action) {
+        synchronized (flushLock) {
+            flush();
+            action.run();
+        }
+    }
+
+    /**
+     * Write one batch, re-queueing it if storage rejected it
+     */
+    private boolean writeBatch(DatabaseManager database, List<IslandChange> batch) {
+        boolean success;
+        try {
+            success = database.saveIslandDataBatch(batch);
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Unexpected error flushing " + batch.size() + " islands", e);
+            success = false;
+        }
+
+        if (!success) {
+            for (IslandChange change : batch) {
+                IslandData islandData = change.getIslandData();
+                change.restore();
+                dirtyIslands.putIfAbsent(islandData.getIslandUuid(), islandData);
+            }
+        }
+
+        return success;
+    }
+
+    /**
+     * Stop the flush task and write everything that is still pending
+     */
+    public void shutdown() {
+        stopTask();
+
+        int written = flush();
+        if (!dirtyIslands.isEmpty()) {
+            plugin.getLogger().severe("Failed to flush " + dirtyIslands.size() + " island records on shutdown!");
+        } else if (written > 0) {
+            plugin.getLogger().info("Flushed " + written + " pending island records");
+        }
+    }
+
+    private void stopTask() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+    }
+}
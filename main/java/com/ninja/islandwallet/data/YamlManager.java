@@ -1,7 +1,9 @@
 package com.ninja.islandwallet.data;
 
 import com.ninja.islandwallet.IslandWalletPlugin;
+import com.ninja.islandwallet.models.IslandChange;
 import com.ninja.islandwallet.models.IslandData;
+import com.ninja.islandwallet.models.LedgerEntry;
 import com.ninja.islandwallet.models.PayoutWinner;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
@@ -9,30 +11,29 @@ import org.bukkit.configuration.file.YamlConfiguration;
 
 import java.io.File;
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 
 /**
  * YAML implementation with separated gems and payout points
+ * Islands are stored in hash-bucketed shard files (see {@link YamlShardStore}), so a change rewrites one small file
  */
 public class YamlManager implements DatabaseManager {
 
     private final IslandWalletPlugin plugin;
-    private final DateTimeFormatter dateFormatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
-    private File islandDataFile;
-    private File payoutDataFile;
-    private File metadataFile;
-
-    private FileConfiguration islandConfig;
-    private FileConfiguration payoutConfig;
-    private FileConfiguration metadataConfig;
+    private YamlPayoutStore payoutStore;
+    private YamlShardStore islandStore;
+    private LedgerLogFile ledgerLog;
 
     public YamlManager(IslandWalletPlugin plugin) {
         this.plugin = plugin;
@@ -46,37 +47,32 @@ public class YamlManager implements DatabaseManager {
                 dataFolder.mkdirs();
             }
 
-            // Initialize files
-            islandDataFile = new File(dataFolder, "islands.yml");
-            payoutDataFile = new File(dataFolder, "payouts.yml");
-            metadataFile = new File(dataFolder, "metadata.yml");
+            payoutStore = new YamlPayoutStore(plugin, dataFolder);
+            payoutStore.load();
 
-            // Create files if they don't exist
-            if (!islandDataFile.exists()) {
-                islandDataFile.createNewFile();
-            }
-            if (!payoutDataFile.exists()) {
-                payoutDataFile.createNewFile();
-            }
-            if (!metadataFile.exists()) {
-                metadataFile.createNewFile();
+            ledgerLog = new LedgerLogFile(new File(dataFolder, "ledger.dat"));
+            ledgerLog.open();
+
+            // The shard count is fixed once islands are stored - a different count would look in the wrong files
+            int shardCount = payoutStore.getMetadataInt("island-shards", 0);
+            if (shardCount <= 0) {
+                shardCount = plugin.getConfigManager().getYamlShardCount();
+                payoutStore.setMetadata("island-shards", shardCount);
+            } else if (shardCount != plugin.getConfigManager().getYamlShardCount()) {
+                plugin.getLogger().warning("Island data is stored in " + shardCount + " shards - ignoring storage.yaml.shard-count");
             }
 
-            // Load configurations
-            islandConfig = YamlConfiguration.loadConfiguration(islandDataFile);
-            payoutConfig = YamlConfiguration.loadConfiguration(payoutDataFile);
-            metadataConfig = YamlConfiguration.loadConfiguration(metadataFile);
+            islandStore = new YamlShardStore(plugin, new File(dataFolder, "islands"), shardCount,
+                    plugin.getConfigManager().getYamlFlushDelayMillis());
+            islandStore.load();
 
-            // Initialize metadata if needed
-            if (!metadataConfig.contains("current-season")) {
-                metadataConfig.set("current-season", 1);
-                saveMetadata();
-            }
+            // Move a single-file islands.yml into the shards
+            migrateLegacyIslandFile(new File(dataFolder, "islands.yml"));
 
             // Migrate from old schema if needed
             migrateFromOldSchema();
 
-            plugin.getLogger().info("YAML database initialized successfully");
+            plugin.getLogger().info("YAML database initialized successfully (" + shardCount + " island shards)");
 
         } catch (IOException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to initialize YAML database", e);
@@ -84,72 +80,98 @@ public class YamlManager implements DatabaseManager {
     }
 
     /**
-     * Migrate from old schema if player-points exists but gems doesn't
+     * Import islands.yml into empty shards and keep it as islands.yml.migrated
      */
-    private void migrateFromOldSchema() {
-        ConfigurationSection islandsSection = islandConfig.getConfigurationSection("islands");
-        if (islandsSection == null) {
+    private void migrateLegacyIslandFile(File legacyFile) {
+        if (!legacyFile.exists()) {
+            return;
+        }
+
+        if (!islandStore.isEmpty()) {
+            plugin.getLogger().warning("Found islands.yml next to existing island shards - leaving it untouched");
             return;
         }
 
-        boolean needsMigration = false;
+        int imported = islandStore.importLegacy(YamlConfiguration.loadConfiguration(legacyFile));
+        if (!islandStore.flush()) {
+            plugin.getLogger().severe("Could not write island shards - islands.yml will be migrated again on next start");
+            return;
+        }
+
+        File migratedFile = new File(legacyFile.getParentFile(), "islands.yml.migrated");
+        if (!legacyFile.renameTo(migratedFile)) {
+            plugin.getLogger().warning("Could not rename islands.yml - remove it manually to avoid confusion");
+        }
+
+        plugin.getLogger().info("Migrated " + imported + " islands from islands.yml into island shards");
+    }
+
+    /**
+     * Migrate from old schema if player-points exists but gems doesn't
+     */
+    private void migrateFromOldSchema() {
+        AtomicBoolean needsMigration = new AtomicBoolean(false);
 
         // Check if any island has player-points but no gems
-        for (String islandId : islandsSection.getKeys(false)) {
-            String basePath = "islands." + islandId;
-            if (islandConfig.contains(basePath + ".player-points") && !islandConfig.contains(basePath + ".gems")) {
-                needsMigration = true;
-                break;
+        islandStore.forEachShard(0, 1, config -> {
+            for (String islandId : YamlShardStore.islandIds(config)) {
+                String basePath = "islands." + islandId;
+                if (config.contains(basePath + ".player-points") && !config.contains(basePath + ".gems")) {
+                    needsMigration.set(true);
+                    break;
+                }
             }
-        }
+            return List.of();
+        }, ignored -> {
+        });
 
-        if (needsMigration) {
+        if (needsMigration.get()) {
             plugin.getLogger().info("Migrating YAML data from old schema: player-points -> gems");
 
-            for (String islandId : islandsSection.getKeys(false)) {
-                String basePath = "islands." + islandId;
+            islandStore.writeAll(config -> {
+                for (String islandId : YamlShardStore.islandIds(config)) {
+                    String basePath = "islands." + islandId;
 
-                if (islandConfig.contains(basePath + ".player-points")) {
-                    long playerPoints = islandConfig.getLong(basePath + ".player-points", 0);
+                    if (config.contains(basePath + ".player-points")) {
+                        long playerPoints = config.getLong(basePath + ".player-points", 0);
 
-                    // Copy to gems field
-                    islandConfig.set(basePath + ".gems", playerPoints);
+                        // Copy to gems field
+                        config.set(basePath + ".gems", playerPoints);
 
-                    // Initialize payout-points if it doesn't exist
-                    if (!islandConfig.contains(basePath + ".payout-points")) {
-                        islandConfig.set(basePath + ".payout-points", 0);
+                        // Initialize payout-points if it doesn't exist
+                        if (!config.contains(basePath + ".payout-points")) {
+                            config.set(basePath + ".payout-points", 0);
+                        }
                     }
                 }
-            }
+            });
 
-            saveIslandConfig();
+            islandStore.flush();
             plugin.getLogger().info("YAML migration completed");
         }
     }
 
     @Override
     public void close() {
-        // YAML doesn't need explicit closing
+        // Write any shards still waiting for their debounced flush
+        if (islandStore != null) {
+            islandStore.close();
+        }
+
+        if (ledgerLog != null) {
+            try {
+                ledgerLog.close();
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.WARNING, "Failed to close ledger file", e);
+            }
+        }
     }
 
     @Override
     public void saveIslandData(IslandData islandData) {
         try {
-            String path = "islands." + islandData.getIslandId();
-
-            islandConfig.set(path + ".island-name", islandData.getIslandName());
-            islandConfig.set(path + ".leader", islandData.getLeader());
-            islandConfig.set(path + ".admin", islandData.getAdmin());
-
-            if (islandData.getLeaderUUID() != null) {
-                islandConfig.set(path + ".leader-uuid", islandData.getLeaderUUID().toString());
-            }
-
-            islandConfig.set(path + ".members", islandData.getMembers());
-            islandConfig.set(path + ".gems", islandData.getGems());
-            islandConfig.set(path + ".payout-points", islandData.getPayoutPoints());
-
-            saveIslandConfig();
+            islandStore.write(islandData.getIslandId(), config -> writeIslandData(config, islandData, IslandData.DIRTY_ALL));
+            islandStore.scheduleFlush();
 
             if (plugin.getConfigManager().isLogTransactions()) {
                 plugin.getLogger().info("Saved island data: " + islandData.getIslandName() +
@@ -162,40 +184,72 @@ public class YamlManager implements DatabaseManager {
     }
 
     @Override
-    public IslandData loadIslandData(String islandId) {
+    public synchronized boolean saveIslandDataBatch(Collection<IslandChange> changes) {
+        if (changes == null || changes.isEmpty()) {
+            return true;
+        }
+
         try {
-            String path = "islands." + islandId;
+            for (IslandChange change : changes) {
+                IslandData islandData = change.getIslandData();
+                islandStore.write(islandData.getIslandId(), config -> writeIslandData(config, islandData, change.getDirtyFlags()));
+            }
 
-            if (!islandConfig.contains(path)) {
-                return null;
+            // The batch is already debounced by the write-behind queue - write the touched shards now
+            if (!islandStore.flush()) {
+                return false;
             }
 
-            ConfigurationSection section = islandConfig.getConfigurationSection(path);
-            if (section == null) {
-                return null;
+            if (plugin.getConfigManager().isLogTransactions()) {
+                plugin.getLogger().info("Saved batch of " + changes.size() + " islands to YAML");
             }
+            return true;
 
-            IslandData islandData = new IslandData(
-                    islandId,
-                    section.getString("island-name", "Unknown")
-            );
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to save island data batch (" + changes.size() + " islands)", e);
+            return false;
+        }
+    }
 
-            islandData.setLeader(section.getString("leader"));
-            islandData.setAdmin(section.getString("admin"));
+    /**
+     * Write only the flagged parts of the island into its shard (everything if it is not stored yet)
+     */
+    private void writeIslandData(FileConfiguration config, IslandData islandData, int dirtyFlags) {
+        String path = "islands." + islandData.getIslandId();
+        if (!config.contains(path)) {
+            dirtyFlags = IslandData.DIRTY_ALL;
+        }
+
+        if ((dirtyFlags & IslandData.DIRTY_NAME) != 0) {
+            config.set(path + ".island-name", islandData.getIslandName());
+        }
 
-            String leaderUuidString = section.getString("leader-uuid");
-            if (leaderUuidString != null) {
-                islandData.setLeaderUUID(UUID.fromString(leaderUuidString));
+        if ((dirtyFlags & IslandData.DIRTY_LEADER) != 0) {
+            config.set(path + ".leader", islandData.getLeader());
+            config.set(path + ".admin", islandData.getAdmin());
+
+            if (islandData.getLeaderUUID() != null) {
+                config.set(path + ".leader-uuid", islandData.getLeaderUUID().toString());
             }
+        }
+
+        if ((dirtyFlags & IslandData.DIRTY_MEMBERS) != 0) {
+            config.set(path + ".members", islandData.getMembers());
+        }
 
-            List<String> members = section.getStringList("members");
-            islandData.setMembers(members);
+        if ((dirtyFlags & IslandData.DIRTY_GEMS) != 0) {
+            config.set(path + ".gems", islandData.getGems());
+        }
 
-            // Load separated gems and payout points
-            islandData.setGems(section.getLong("gems", 0));
-            islandData.setPayoutPoints(section.getLong("payout-points", 0));
+        if ((dirtyFlags & IslandData.DIRTY_PAYOUT_POINTS) != 0) {
+            config.set(path + ".payout-points", islandData.getPayoutPoints());
+        }
+    }
 
-            return islandData;
+    @Override
+    public IslandData loadIslandData(String islandId) {
+        try {
+            return islandStore.read(islandId, config -> readIslandData(config, islandId));
 
         } catch (Exception e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to load island data", e);
@@ -204,35 +258,84 @@ public class YamlManager implements DatabaseManager {
         return null;
     }
 
+    /**
+     * Build island data from its section in a shard
+     */
+    private IslandData readIslandData(FileConfiguration config, String islandId) {
+        ConfigurationSection section = config.getConfigurationSection("islands." + islandId);
+        if (section == null) {
+            return null;
+        }
+
+        IslandData islandData = new IslandData(
+                islandId,
+                section.getString("island-name", "Unknown")
+        );
+
+        islandData.setLeader(section.getString("leader"));
+        islandData.setAdmin(section.getString("admin"));
+
+        String leaderUuidString = section.getString("leader-uuid");
+        if (leaderUuidString != null) {
+            islandData.setLeaderUUID(UUID.fromString(leaderUuidString));
+        }
+
+        List<String> members = section.getStringList("members");
+        islandData.setMembers(members);
+
+        // Load separated gems and payout points
+        islandData.setGems(section.getLong("gems", 0));
+        islandData.setPayoutPoints(section.getLong("payout-points", 0));
+
+        // Freshly loaded data matches storage
+        islandData.markClean();
+
+        return islandData;
+    }
+
     @Override
     public Map<String, IslandData> loadAllIslandData() {
         Map<String, IslandData> islandDataMap = new HashMap<>();
+        forEachIslandData(islandData -> islandDataMap.put(islandData.getIslandId(), islandData));
+        return islandDataMap;
+    }
 
+    @Override
+    public void forEachIslandData(IslandDataPartition partition, Consumer<IslandData> consumer) {
         try {
-            ConfigurationSection islandsSection = islandConfig.getConfigurationSection("islands");
-            if (islandsSection == null) {
-                return islandDataMap;
-            }
-
-            for (String islandId : islandsSection.getKeys(false)) {
-                IslandData islandData = loadIslandData(islandId);
-                if (islandData != null) {
-                    islandDataMap.put(islandId, islandData);
+            // Every n-th shard belongs to the same partition
+            islandStore.forEachShard(partition.getIndex(), partition.getCount(), config -> {
+                List<IslandData> islands = new ArrayList<>();
+                for (String islandId : YamlShardStore.islandIds(config)) {
+                    IslandData islandData = readIslandData(config, islandId);
+                    if (islandData != null) {
+                        islands.add(islandData);
+                    }
                 }
-            }
+                return islands;
+            }, consumer);
 
         } catch (Exception e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to load all island data", e);
         }
+    }
 
-        return islandDataMap;
+    @Override
+    public int countIslandData() {
+        AtomicInteger count = new AtomicInteger();
+        islandStore.forEachShard(0, 1, config -> {
+            count.addAndGet(YamlShardStore.islandIds(config).size());
+            return List.of();
+        }, ignored -> {
+        });
+        return count.get();
     }
 
     @Override
     public void deleteIslandData(String islandId) {
         try {
-            islandConfig.set("islands." + islandId, null);
-            saveIslandConfig();
+            islandStore.write(islandId, config -> config.set("islands." + islandId, null));
+            islandStore.scheduleFlush();
 
             plugin.getLogger().info("Deleted island data for: " + islandId);
 
@@ -243,134 +346,89 @@ public class YamlManager implements DatabaseManager {
 
     @Override
     public boolean islandExists(String islandId) {
-        return islandConfig.contains("islands." + islandId);
+        return islandStore.read(islandId, config -> config.contains("islands." + islandId));
     }
 
     @Override
-    public void savePayoutWinners(List<PayoutWinner> winners) {
-        try {
-            int season = getCurrentSeason();
-            String path = "seasons." + season;
-
-            for (PayoutWinner winner : winners) {
-                String winnerPath = path + ".winners." + winner.getRank();
-
-                payoutConfig.set(winnerPath + ".island-id", winner.getIslandId());
-                payoutConfig.set(winnerPath + ".island-name", winner.getIslandName());
-                payoutConfig.set(winnerPath + ".leader", winner.getLeader());
-                payoutConfig.set(winnerPath + ".points", winner.getPoints());
-                payoutConfig.set(winnerPath + ".payout-date", winner.getPayoutDate().format(dateFormatter));
-            }
-
-            payoutConfig.set(path + ".payout-date", LocalDateTime.now().format(dateFormatter));
-            savePayoutConfig();
-
-            plugin.getLogger().info("Saved " + winners.size() + " payout winners for season " + season);
-
-        } catch (Exception e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to save payout winners", e);
+    public String findIslandIdByMember(String playerName) {
+        if (playerName == null) {
+            return null;
         }
-    }
 
-    @Override
-    public List<PayoutWinner> loadPayoutWinners(int season) {
-        List<PayoutWinner> winners = new ArrayList<>();
+        AtomicReference<String> found = new AtomicReference<>();
 
-        try {
-            String path = "seasons." + season + ".winners";
-            ConfigurationSection winnersSection = payoutConfig.getConfigurationSection(path);
+        // YAML has no index - scan the island sections
+        islandStore.forEachShard(0, 1, config -> {
+            if (found.get() != null) {
+                return List.of();
+            }
 
-            if (winnersSection == null) {
-                return winners;
+            ConfigurationSection islandsSection = config.getConfigurationSection("islands");
+            if (islandsSection == null) {
+                return List.of();
             }
 
-            for (String rankString : winnersSection.getKeys(false)) {
-                int rank = Integer.parseInt(rankString);
-                ConfigurationSection winnerSection = winnersSection.getConfigurationSection(rankString);
-
-                if (winnerSection != null) {
-                    PayoutWinner winner = new PayoutWinner(
-                            winnerSection.getString("island-id"),
-                            winnerSection.getString("island-name"),
-                            winnerSection.getString("leader"),
-                            winnerSection.getLong("points"),
-                            rank,
-                            LocalDateTime.parse(winnerSection.getString("payout-date"), dateFormatter),
-                            season
-                    );
-
-                    winners.add(winner);
+            for (String islandId : islandsSection.getKeys(false)) {
+                ConfigurationSection section = islandsSection.getConfigurationSection(islandId);
+                if (section == null) {
+                    continue;
+                }
+                if (playerName.equals(section.getString("leader")) || section.getStringList("members").contains(playerName)) {
+                    return List.of(islandId);
                 }
             }
+            return List.of();
+        }, islandId -> found.compareAndSet(null, islandId));
 
-            // Sort by rank
-            winners.sort((w1, w2) -> Integer.compare(w1.getRank(), w2.getRank()));
-
-        } catch (Exception e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to load payout winners", e);
-        }
-
-        return winners;
+        return found.get();
     }
 
     @Override
-    public List<PayoutWinner> loadAllPayoutWinners() {
-        List<PayoutWinner> allWinners = new ArrayList<>();
-
-        try {
-            ConfigurationSection seasonsSection = payoutConfig.getConfigurationSection("seasons");
-            if (seasonsSection == null) {
-                return allWinners;
-            }
+    public void savePayoutWinners(List<PayoutWinner> winners) {
+        payoutStore.savePayoutWinners(winners);
+    }
 
-            for (String seasonString : seasonsSection.getKeys(false)) {
-                int season = Integer.parseInt(seasonString);
-                List<PayoutWinner> seasonWinners = loadPayoutWinners(season);
-                allWinners.addAll(seasonWinners);
-            }
+    @Override
+    public List<PayoutWinner> loadPayoutWinners(int season) {
+        return payoutStore.loadPayoutWinners(season);
+    }
 
-            // Sort by season descending, then by rank ascending
-            allWinners.sort((w1, w2) -> {
-                int seasonCompare = Integer.compare(w2.getSeason(), w1.getSeason());
-                if (seasonCompare != 0) {
-                    return seasonCompare;
-                }
-                return Integer.compare(w1.getRank(), w2.getRank());
-            });
+    @Override
+    public PayoutWinner loadPayoutWinner(int season, String islandId) {
+        return payoutStore.loadPayoutWinner(season, islandId);
+    }
 
-        } catch (Exception e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to load all payout winners", e);
-        }
+    @Override
+    public List<PayoutWinner> loadTopPayoutWinners(int season, int limit) {
+        return payoutStore.loadTopPayoutWinners(season, limit);
+    }
 
-        return allWinners;
+    @Override
+    public List<PayoutWinner> loadAllPayoutWinners() {
+        return payoutStore.loadAllPayoutWinners();
     }
 
     @Override
     public int getCurrentSeason() {
-        return metadataConfig.getInt("current-season", 1);
+        return payoutStore.getCurrentSeason();
     }
 
     @Override
     public int getNextSeason() {
-        int nextSeason = getCurrentSeason() + 1;
-        metadataConfig.set("current-season", nextSeason);
-        saveMetadata();
-        return nextSeason;
+        return payoutStore.getNextSeason();
     }
 
     @Override
     public void resetAllPayoutPoints() {
         try {
-            ConfigurationSection islandsSection = islandConfig.getConfigurationSection("islands");
-            if (islandsSection == null) {
-                return;
-            }
-
-            for (String islandId : islandsSection.getKeys(false)) {
-                islandConfig.set("islands." + islandId + ".payout-points", 0);
-            }
+            islandStore.writeAll(config -> {
+                for (String islandId : YamlShardStore.islandIds(config)) {
+                    config.set("islands." + islandId + ".payout-points", 0);
+                }
+            });
 
-            saveIslandConfig();
+            // A season reset must be on disk before the next season starts
+            islandStore.flush();
             plugin.getLogger().info("Reset all payout points to zero (gems preserved)");
 
         } catch (Exception e) {
@@ -378,36 +436,24 @@ public class YamlManager implements DatabaseManager {
         }
     }
 
-    /**
-     * Save island configuration file
-     */
-    private void saveIslandConfig() {
-        try {
-            islandConfig.save(islandDataFile);
-        } catch (IOException e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to save island configuration", e);
-        }
-    }
-
-    /**
-     * Save payout configuration file
-     */
-    private void savePayoutConfig() {
+    @Override
+    public boolean saveLedgerEntries(List<LedgerEntry> entries) {
         try {
-            payoutConfig.save(payoutDataFile);
-        } catch (IOException e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to save payout configuration", e);
+            ledgerLog.append(entries);
+            return true;
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to save " + entries.size() + " ledger entries", e);
+            return false;
         }
     }
 
-    /**
-     * Save metadata configuration file
-     */
-    private void saveMetadata() {
+    @Override
+    public List<LedgerEntry> loadLedgerEntries(UUID islandUuid, int limit) {
         try {
-            metadataConfig.save(metadataFile);
-        } catch (IOException e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to save metadata", e);
+            return ledgerLog.readRecent(islandUuid, limit);
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to load ledger entries", e);
+            return new ArrayList<>();
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,218 @@
+package com.ninja.islandwallet.data;
+
+import com.ninja.islandwallet.IslandWalletPlugin;
+import com.ninja.islandwallet.models.PayoutWinner;
+import com.ninja.islandwallet.utils.FileUtil;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+
+/**
+ * Payout history (payouts.yml) and season metadata (metadata.yml) for the file based storage types
+ */
+public class YamlPayoutStore {
+
+    private final IslandWalletPlugin plugin;
+    private final DateTimeFormatter dateFormatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private final File payoutDataFile;
+    private final File metadataFile;
+
+    private FileConfiguration payoutConfig;
+    private FileConfiguration metadataConfig;
+
+    public YamlPayoutStore(IslandWalletPlugin plugin, File dataFolder) {
+        this.plugin = plugin;
+        this.payoutDataFile = new File(dataFolder, "payouts.yml");
+        this.metadataFile = new File(dataFolder, "metadata.yml");
+    }
+
+    /**
+     * Load both files, creating them if they don't exist
+     */
+    public void load() throws IOException {
+        // Create files if they don't exist
+        if (!payoutDataFile.exists()) {
+            payoutDataFile.createNewFile();
+        }
+        if (!metadataFile.exists()) {
+            metadataFile.createNewFile();
+        }
+
+        // Load configurations
+        payoutConfig = YamlConfiguration.loadConfiguration(payoutDataFile);
+        metadataConfig = YamlConfiguration.loadConfiguration(metadataFile);
+
+        // Initialize metadata if needed
+        if (!metadataConfig.contains("current-season")) {
+            metadataConfig.set("current-season", 1);
+            saveMetadata();
+        }
+    }
+
+    public void savePayoutWinners(List<PayoutWinner> winners) {
+        try {
+            int season = getCurrentSeason();
+            String path = "seasons." + season;
+
+            for (PayoutWinner winner : winners) {
+                String winnerPath = path + ".winners." + winner.getRank();
+
+                payoutConfig.set(winnerPath + ".island-id", winner.getIslandId());
+                payoutConfig.set(winnerPath + ".island-name", winner.getIslandName());
+                payoutConfig.set(winnerPath + ".leader", winner.getLeader());
+                payoutConfig.set(winnerPath + ".points", winner.getPoints());
+                payoutConfig.set(winnerPath + ".payout-date", winner.getPayoutDate().format(dateFormatter));
+            }
+
+            payoutConfig.set(path + ".payout-date", LocalDateTime.now().format(dateFormatter));
+            savePayoutConfig();
+
+            plugin.getLogger().info("Saved " + winners.size() + " payout winners for season " + season);
+
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to save payout winners", e);
+        }
+    }
+
+    public List<PayoutWinner> loadPayoutWinners(int season) {
+        List<PayoutWinner> winners = new ArrayList<>();
+
+        try {
+            String path = "seasons." + season + ".winners";
+            ConfigurationSection winnersSection = payoutConfig.getConfigurationSection(path);
+
+            if (winnersSection == null) {
+                return winners;
+            }
+
+            for (String rankString : winnersSection.getKeys(false)) {
+                int rank = Integer.parseInt(rankString);
+                ConfigurationSection winnerSection = winnersSection.getConfigurationSection(rankString);
+
+                if (winnerSection != null) {
+                    PayoutWinner winner = new PayoutWinner(
+                            winnerSection.getString("island-id"),
+                            winnerSection.getString("island-name"),
+                            winnerSection.getString("leader"),
+                            winnerSection.getLong("points"),
+                            rank,
+                            LocalDateTime.parse(winnerSection.getString("payout-date"), dateFormatter),
+                            season
+                    );
+
+                    winners.add(winner);
+                }
+            }
+
+            // Sort by rank
+            winners.sort((w1, w2) -> Integer.compare(w1.getRank(), w2.getRank()));
+
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to load payout winners", e);
+        }
+
+        return winners;
+    }
+
+    public PayoutWinner loadPayoutWinner(int season, String islandId) {
+        for (PayoutWinner winner : loadPayoutWinners(season)) {
+            if (winner.getIslandId().equals(islandId)) {
+                return winner;
+            }
+        }
+        return null;
+    }
+
+    public List<PayoutWinner> loadTopPayoutWinners(int season, int limit) {
+        List<PayoutWinner> winners = loadPayoutWinners(season);
+        return winners.size() > limit ? new ArrayList<>(winners.subList(0, limit)) : winners;
+    }
+
+    public List<PayoutWinner> loadAllPayoutWinners() {
+        List<PayoutWinner> allWinners = new ArrayList<>();
+
+        try {
+            ConfigurationSection seasonsSection = payoutConfig.getConfigurationSection("seasons");
+            if (seasonsSection == null) {
+                return allWinners;
+            }
+
+            for (String seasonString : seasonsSection.getKeys(false)) {
+                int season = Integer.parseInt(seasonString);
+                List<PayoutWinner> seasonWinners = loadPayoutWinners(season);
+                allWinners.addAll(seasonWinners);
+            }
+
+            // Sort by season descending, then by rank ascending
+            allWinners.sort((w1, w2) -> {
+                int seasonCompare = Integer.compare(w2.getSeason(), w1.getSeason());
+                if (seasonCompare != 0) {
+                    return seasonCompare;
+                }
+                return Integer.compare(w1.getRank(), w2.getRank());
+            });
+
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to load all payout winners", e);
+        }
+
+        return allWinners;
+    }
+
+    public int getCurrentSeason() {
+        return metadataConfig.getInt("current-season", 1);
+    }
+
+    public int getNextSeason() {
+        int nextSeason = getCurrentSeason() + 1;
+        metadataConfig.set("current-season", nextSeason);
+        saveMetadata();
+        return nextSeason;
+    }
+
+    /**
+     * Read a storage-specific metadata value
+     */
+    public int getMetadataInt(String key, int defaultValue) {
+        return metadataConfig.getInt(key, defaultValue);
+    }
+
+    /**
+     * Store a storage-specific metadata value
+     */
+    public void setMetadata(String key, Object value) {
+        metadataConfig.set(key, value);
+        saveMetadata();
+    }
+
+    /**
+     * Save payout configuration file
+     */
+    private void savePayoutConfig() {
+        try {
+            FileUtil.writeAtomically(payoutDataFile, payoutConfig.saveToString());
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to save payout configuration", e);
+        }
+    }
+
+    /**
+     * Save metadata configuration file
+     */
+    private void saveMetadata() {
+        try {
+            FileUtil.writeAtomically(metadataFile, metadataConfig.saveToString());
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to save metadata", e);
+        }
+    }
+}
\ No newline at end of file
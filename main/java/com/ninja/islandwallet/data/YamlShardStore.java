@@ -0,0 +1,270 @@
+package com.ninja.islandwallet.data;
+
+import com.ninja.islandwallet.IslandWalletPlugin;
+import com.ninja.islandwallet.utils.FileUtil;
+import com.ninja.islandwallet.utils.UuidUtil;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+/**
+ * Island data split over hash-bucketed YAML files (islands/shard-XXX.yml)
+ * A change only marks its shard dirty; dirty shards are written after a short debounce delay,
+ * each one to a temp file that is synced and then renamed over the old file, so a crash never leaves a half-written shard
+ */
+public class YamlShardStore {
+
+    private final IslandWalletPlugin plugin;
+    private final File directory;
+    private final Shard[] shards;
+    private final long flushDelayMillis;
+
+    private final Object flushLock = new Object();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final ScheduledExecutorService flusher;
+
+    public YamlShardStore(IslandWalletPlugin plugin, File directory, int shardCount, long flushDelayMillis) {
+        this.plugin = plugin;
+        this.directory = directory;
+        this.flushDelayMillis = flushDelayMillis;
+        this.shards = new Shard[shardCount];
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "IslandWallet-YamlFlusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Load every shard file (missing shards start empty)
+     */
+    public void load() throws IOException {
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Could not create " + directory);
+        }
+
+        for (int i = 0; i < shards.length; i++) {
+            File file = new File(directory, String.format("shard-%03x.yml", i));
+            YamlConfiguration config = new YamlConfiguration();
+            if (file.exists()) {
+                try {
+                    config.load(file);
+                } catch (InvalidConfigurationException e) {
+                    throw new IOException("Corrupt island shard " + file.getName(), e);
+                }
+            }
+            shards[i] = new Shard(file, config);
+        }
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    /**
+     * True if no shard holds any island yet
+     */
+    public boolean isEmpty() {
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                ConfigurationSection islands = shard.config.getConfigurationSection("islands");
+                if (islands != null && !islands.getKeys(false).isEmpty()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private Shard shardFor(String islandId) {
+        return shards[Math.floorMod(UuidUtil.islandKey(islandId).hashCode(), shards.length)];
+    }
+
+    /**
+     * Read from the shard holding an island
+     */
+    public <T> T read(String islandId, Function<FileConfiguration, T> reader) {
+        Shard shard = shardFor(islandId);
+        synchronized (shard) {
+            return reader.apply(shard.config);
+        }
+    }
+
+    /**
+     * Change the shard holding an island and mark it dirty (not written until the next flush)
+     */
+    public void write(String islandId, Consumer<FileConfiguration> writer) {
+        Shard shard = shardFor(islandId);
+        synchronized (shard) {
+            writer.accept(shard.config);
+            shard.dirty = true;
+        }
+    }
+
+    /**
+     * Read every shard whose index belongs to the given partition
+     * The reader runs under the shard lock; its results are handed to the consumer after the lock is released
+     */
+    public <T> void forEachShard(int partition, int partitions, Function<FileConfiguration, List<T>> reader, Consumer<T> consumer) {
+        for (int i = partition; i < shards.length; i += partitions) {
+            Shard shard = shards[i];
+            List<T> results;
+            synchronized (shard) {
+                results = reader.apply(shard.config);
+            }
+            results.forEach(consumer);
+        }
+    }
+
+    /**
+     * Change every shard, e.g. for a season reset
+     */
+    public void writeAll(Consumer<FileConfiguration> writer) {
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                writer.accept(shard.config);
+                shard.dirty = true;
+            }
+        }
+    }
+
+    /**
+     * Flush dirty shards after the debounce delay; further changes in the meantime share that flush
+     */
+    public void scheduleFlush() {
+        if (!flushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            flusher.schedule(() -> {
+                flushScheduled.set(false);
+                flush();
+            }, flushDelayMillis, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            // Store is closing - close() writes everything that is left
+            flushScheduled.set(false);
+        }
+    }
+
+    /**
+     * Write all dirty shards now
+     *
+     * @return true if every dirty shard was written
+     */
+    public boolean flush() {
+        synchronized (flushLock) {
+            boolean success = true;
+            int written = 0;
+
+            for (Shard shard : shards) {
+                String contents;
+                synchronized (shard) {
+                    if (!shard.dirty) {
+                        continue;
+                    }
+                    contents = shard.config.saveToString();
+                    shard.dirty = false;
+                }
+
+                try {
+                    FileUtil.writeAtomically(shard.file, contents);
+                    written++;
+                } catch (IOException e) {
+                    plugin.getLogger().log(Level.SEVERE, "Failed to write island shard " + shard.file.getName(), e);
+                    synchronized (shard) {
+                        shard.dirty = true; // Retried by the next flush
+                    }
+                    success = false;
+                }
+            }
+
+            if (written > 0 && plugin.getConfigManager().isDebugEnabled()) {
+                plugin.getLogger().info("Wrote " + written + " island shard(s)");
+            }
+
+            return success;
+        }
+    }
+
+    /**
+     * Stop the debounce thread and write everything that is still dirty
+     */
+    public void close() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (!flush()) {
+            plugin.getLogger().severe("Some island shards could not be written on shutdown!");
+        }
+    }
+
+    /**
+     * Distribute the islands of a legacy single-file islands.yml over the shards
+     *
+     * @return number of islands imported
+     */
+    public int importLegacy(FileConfiguration legacy) {
+        ConfigurationSection islands = legacy.getConfigurationSection("islands");
+        if (islands == null) {
+            return 0;
+        }
+
+        int imported = 0;
+        for (String islandId : islands.getKeys(false)) {
+            ConfigurationSection section = islands.getConfigurationSection(islandId);
+            if (section == null) {
+                continue;
+            }
+
+            write(islandId, config -> {
+                for (String key : section.getKeys(true)) {
+                    if (!section.isConfigurationSection(key)) {
+                        config.set("islands." + islandId + "." + key, section.get(key));
+                    }
+                }
+            });
+            imported++;
+        }
+        return imported;
+    }
+
+    /**
+     * One shard file and its in-memory contents, guarded by the shard's monitor
+     */
+    private static final class Shard {
+        private final File file;
+        private final YamlConfiguration config;
+        private boolean dirty;
+
+        private Shard(File file, YamlConfiguration config) {
+            this.file = file;
+            this.config = config;
+        }
+    }
+
+    /**
+     * Island IDs stored in one shard configuration
+     */
+    public static List<String> islandIds(FileConfiguration config) {
+        ConfigurationSection islands = config.getConfigurationSection("islands");
+        return islands != null ? new ArrayList<>(islands.getKeys(false)) : new ArrayList<>();
+    }
+}
@@ -54,9 +54,9 @@ public class GuiManager implements Listener {
 
             Inventory gui = Bukkit.createInventory(null, size, title);
 
-            List<IslandData> leaderboard = leaderboardManager.getTopIslands(
+            List<IslandData> leaderboard = new ArrayList<>(leaderboardManager.getTopIslands(
                     plugin.getConfigManager().getLeaderboardDisplayRanks()
-            );
+            ));
 
             // FIXED: Better validation of leaderboard data
             leaderboard.removeIf(island -> island == null || !plugin.getWalletManager().validateIslandData(island));
@@ -148,7 +148,8 @@ public class GuiManager implements Listener {
 
             Inventory gui = Bukkit.createInventory(null, size, title);
 
-            List<PayoutWinner> winners = plugin.getDatabaseManager().loadPayoutWinners(season);
+            // Only the podium places are shown
+            List<PayoutWinner> winners = plugin.getSeasonHistoryCache().getTopWinners(season, 3);
 
             // FIXED: Enhanced validation of winner data
             winners.removeIf(winner -> winner == null ||
@@ -809,7 +810,7 @@ public class GuiManager implements Listener {
             if (slot == accessSlot && player.hasPermission("islandwallet.purchase")) {
                 openPurchaseGui(player);
             } else if (slot == podiumSlot && player.hasPermission("islandwallet.leaderboard")) {
-                int currentSeason = plugin.getDatabaseManager().getCurrentSeason();
+                int currentSeason = plugin.getSeasonHistoryCache().getCurrentSeason();
                 int displaySeason = currentSeason > 1 ? currentSeason - 1 : currentSeason;
                 openPodiumGui(player, displaySeason);
             }
@@ -823,7 +824,7 @@ public class GuiManager implements Listener {
      */
     private void handlePodiumClick(Player player, int slot) {
         try {
-            int currentSeason = plugin.getDatabaseManager().getCurrentSeason();
+            int currentSeason = plugin.getSeasonHistoryCache().getCurrentSeason();
 
             if (slot == plugin.getConfigManager().getPreviousSeasonSlot()) {
                 if (currentSeason > 1) {
@@ -834,8 +835,10 @@ public class GuiManager implements Listener {
 
             if (slot == plugin.getConfigManager().getNewCycleSlot()) {
                 if (player.hasPermission("islandwallet.admin.reset")) {
-                    plugin.getPayoutManager().forceResetCycle();
-                    String message = plugin.getConfigManager().getMessage("admin-reset-success");
+                    String message = plugin.getPayoutManager().forceResetCycle()
+                            ? plugin.getConfigManager().getMessage("admin-reset-success")
+                            : plugin.getConfigManager().formatMessage("loading-data",
+                                    "{progress}", String.valueOf(plugin.getStartupManager().getProgress()));
                     player.sendMessage(plugin.getConfigManager().getPrefix() + message);
                     player.closeInventory();
                 } else {
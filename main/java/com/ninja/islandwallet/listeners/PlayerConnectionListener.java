@@ -0,0 +1,53 @@
+package com.ninja.islandwallet.listeners;
+
+import com.ninja.islandwallet.IslandWalletPlugin;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.logging.Level;
+
+/**
+ * Keeps the player to island index warm for online players
+ */
+public class PlayerConnectionListener implements Listener {
+    
+    private final IslandWalletPlugin plugin;
+    
+    public PlayerConnectionListener(IslandWalletPlugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    /**
+     * Resolve the player's island once on join, so scoreboards and placeholders start from the index
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        Player player = event.getPlayer();
+        
+        // One tick later SuperiorSkyblock has finished loading the player
+        plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+            try {
+                if (player.isOnline()) {
+                    plugin.getWalletManager().preloadPlayerIsland(player);
+                }
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.WARNING, "Error indexing island for player: " + player.getName(), e);
+            }
+        }, 1L);
+    }
+    
+    /**
+     * Drop the index entry of players going offline
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        plugin.getWalletManager().unindexPlayer(event.getPlayer().getUniqueId());
+        if (plugin.getPlaceholderAPI() != null) {
+            plugin.getPlaceholderAPI().invalidate(event.getPlayer().getUniqueId());
+        }
+    }
+}
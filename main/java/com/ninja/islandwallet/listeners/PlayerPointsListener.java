@@ -1,12 +1,15 @@
 package com.ninja.islandwallet.listeners;
 
 import com.ninja.islandwallet.IslandWalletPlugin;
+import com.ninja.islandwallet.models.IslandData;
 import org.black_ixx.playerpoints.event.PlayerPointsChangeEvent;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.scheduler.BukkitTask;
 
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -14,19 +17,38 @@ import java.util.logging.Level;
 
 /**
  * FIXED: PlayerPoints listener with enhanced validation and error handling
+ * Gains are summed per player as they arrive and deposited once per tick, so no gain is dropped;
+ * the personal balances are charged in batches by {@link com.ninja.islandwallet.managers.GemTransferReconciler}
  */
 public class PlayerPointsListener implements Listener {
 
     private final IslandWalletPlugin plugin;
-    private final ConcurrentHashMap<UUID, Long> lastProcessedTime;
-    private final ConcurrentHashMap<UUID, Long> pendingRemovals;
+    private final ConcurrentHashMap<UUID, Long> pendingGems;
 
-    private static final long MIN_PROCESS_INTERVAL = 100; // 100ms minimum between processing
+    private BukkitTask drainTask;
 
     public PlayerPointsListener(IslandWalletPlugin plugin) {
         this.plugin = plugin;
-        this.lastProcessedTime = new ConcurrentHashMap<>();
-        this.pendingRemovals = new ConcurrentHashMap<>();
+        this.pendingGems = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Start the per-tick transfer of accumulated gains
+     */
+    public void start() {
+        stop();
+        drainTask = Bukkit.getScheduler().runTaskTimer(plugin, this::drainAll, 1L, 1L);
+    }
+
+    /**
+     * Stop the transfer task, transferring whatever is still pending first
+     */
+    public void stop() {
+        if (drainTask != null) {
+            drainTask.cancel();
+            drainTask = null;
+            drainAll();
+        }
     }
 
     /**
@@ -60,44 +82,8 @@ public class PlayerPointsListener implements Listener {
                 return;
             }
 
-            // FIXED: Prevent spam processing with better tracking
-            long currentTime = System.currentTimeMillis();
-            Long lastTime = lastProcessedTime.get(playerUUID);
-            if (lastTime != null && (currentTime - lastTime) < MIN_PROCESS_INTERVAL) {
-                if (plugin.getConfigManager().isDebugEnabled()) {
-                    plugin.getLogger().info("Skipping PlayerPoints processing for " + playerUUID + " due to spam protection");
-                }
-                return;
-            }
-            lastProcessedTime.put(playerUUID, currentTime);
-
-            Player player = Bukkit.getPlayer(playerUUID);
-            if (player == null || !player.isOnline()) {
-                if (plugin.getConfigManager().isDebugEnabled()) {
-                    plugin.getLogger().info("Player not online for PlayerPoints transfer: " + playerUUID);
-                }
-                return;
-            }
-
-            // FIXED: Enhanced validation of player state
-            if (!player.isValid()) {
-                plugin.getLogger().warning("Player is not valid for PlayerPoints transfer: " + player.getName());
-                return;
-            }
-
-            // FIXED: Try to deposit gems to island wallet with better error handling
-            boolean success = plugin.getWalletManager().depositGems(player, gemsEarned);
-
-            if (success) {
-                // FIXED: Enhanced removal with better error handling
-                schedulePointRemoval(player, playerUUID, gemsEarned);
-            } else {
-                // Player is not on an island, gems remain in personal balance
-                if (plugin.getConfigManager().isDebugEnabled()) {
-                    plugin.getLogger().info(String.format("Player %s earned %d gems but is not on an island - gems remain in personal balance",
-                            player.getName(), gemsEarned));
-                }
-            }
+            // Merge into the player's pending total - transferred on the next tick
+            pendingGems.merge(playerUUID, gemsEarned, PlayerPointsListener::addCapped);
 
         } catch (Exception e) {
             plugin.getLogger().log(Level.SEVERE, "Error handling PlayerPoints change event", e);
@@ -105,126 +91,73 @@ public class PlayerPointsListener implements Listener {
     }
 
     /**
-     * FIXED: Schedule point removal with enhanced error handling
+     * Transfer a quitting player's pending gains while they are still online
      */
-    private void schedulePointRemoval(Player player, UUID playerUUID, long gemsEarned) {
-        // Schedule removal for next tick to avoid concurrent modification
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            try {
-                // FIXED: Validate player is still online and valid
-                if (!player.isOnline() || !player.isValid()) {
-                    plugin.getLogger().warning("Player no longer valid for point removal: " + player.getName());
-                    return;
-                }
-
-                // FIXED: Enhanced PlayerPoints API usage
-                org.black_ixx.playerpoints.PlayerPointsAPI playerPointsAPI = getPlayerPointsAPI();
-                if (playerPointsAPI == null) {
-                    plugin.getLogger().severe("PlayerPoints API is not available!");
-                    return;
-                }
-
-                // FIXED: Calculate safe amount to remove (PlayerPoints uses int, not long)
-                int removeAmount = (int) Math.min(gemsEarned, Integer.MAX_VALUE);
-                if (removeAmount <= 0) {
-                    plugin.getLogger().warning("Invalid remove amount calculated: " + removeAmount);
-                    return;
-                }
-
-                // FIXED: Enhanced balance checking
-                int currentBalance = playerPointsAPI.look(playerUUID);
-                if (currentBalance < 0) {
-                    plugin.getLogger().warning("Player has negative balance, cannot remove points: " + player.getName());
-                    return;
-                }
-
-                if (currentBalance >= removeAmount) {
-                    // Remove the points from player's personal balance
-                    boolean removed = playerPointsAPI.take(playerUUID, removeAmount);
-
-                    if (removed) {
-                        // FIXED: Enhanced transfer notification
-                        if (player.isOnline() && player.isValid()) {
-                            String transferMessage = plugin.getConfigManager().getMessage("gems-transferred");
-                            player.sendMessage(plugin.getConfigManager().getPrefix() + transferMessage);
-                        }
-
-                        if (plugin.getConfigManager().isLogTransactions()) {
-                            plugin.getLogger().info(String.format("Successfully transferred %d gems from %s's personal balance to island wallet",
-                                    removeAmount, player.getName()));
-                        }
-                    } else {
-                        plugin.getLogger().warning("Failed to remove gems from player balance for: " + player.getName() +
-                                " (API returned false)");
-                    }
-                } else {
-                    plugin.getLogger().warning("Insufficient PlayerPoints balance to remove for: " + player.getName() +
-                            " (Current: " + currentBalance + ", Needed: " + removeAmount + ")");
-                }
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        drain(event.getPlayer().getUniqueId());
+    }
 
-            } catch (Exception e) {
-                plugin.getLogger().log(Level.WARNING, "Failed to remove gems from player balance for: " + player.getName(), e);
-            }
-        }, 1L); // Run on next tick
+    private static long addCapped(long a, long b) {
+        long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
     }
 
     /**
-     * FIXED: Get PlayerPoints API with validation
+     * Transfer the pending gains of every player (main thread)
      */
-    private org.black_ixx.playerpoints.PlayerPointsAPI getPlayerPointsAPI() {
-        try {
-            org.black_ixx.playerpoints.PlayerPoints playerPointsPlugin =
-                    org.black_ixx.playerpoints.PlayerPoints.getInstance();
-
-            if (playerPointsPlugin == null) {
-                plugin.getLogger().severe("PlayerPoints plugin instance is null!");
-                return null;
-            }
-
-            if (!playerPointsPlugin.isEnabled()) {
-                plugin.getLogger().warning("PlayerPoints plugin is not enabled!");
-                return null;
-            }
+    private void drainAll() {
+        if (pendingGems.isEmpty()) {
+            return;
+        }
 
-            return playerPointsPlugin.getAPI();
-        } catch (Exception e) {
-            plugin.getLogger().log(Level.SEVERE, "Error getting PlayerPoints API", e);
-            return null;
+        for (UUID playerUUID : pendingGems.keySet()) {
+            drain(playerUUID);
         }
     }
 
     /**
-     * FIXED: Enhanced cleanup with better validation
+     * Move one player's accumulated gains into their island wallet (main thread)
      */
-    public void cleanupOldEntries() {
+    private void drain(UUID playerUUID) {
+        Long gemsEarned = pendingGems.remove(playerUUID);
+        if (gemsEarned == null || gemsEarned <= 0) {
+            return;
+        }
+
         try {
-            long cutoffTime = System.currentTimeMillis() - (5 * 60 * 1000); // 5 minutes
+            Player player = Bukkit.getPlayer(playerUUID);
+            if (player == null || !player.isOnline()) {
+                if (plugin.getConfigManager().isDebugEnabled()) {
+                    plugin.getLogger().info("Player not online for PlayerPoints transfer: " + playerUUID);
+                }
+                return;
+            }
 
-            int removedProcessed = 0;
-            int removedPending = 0;
+            // Not valid right now (e.g. dead) - keep the gains for a later tick
+            if (!player.isValid()) {
+                pendingGems.merge(playerUUID, gemsEarned, PlayerPointsListener::addCapped);
+                return;
+            }
 
-            // Clean up last processed times
-            removedProcessed = lastProcessedTime.entrySet().removeIf(entry -> {
-                if (entry.getKey() == null || entry.getValue() == null) {
-                    return true;
-                }
-                return entry.getValue() < cutoffTime;
-            }) ? 1 : 0;
+            // FIXED: Try to deposit gems to island wallet with better error handling
+            boolean success = plugin.getWalletManager().depositGems(player, gemsEarned);
 
-            // Clean up pending removals
-            removedPending = pendingRemovals.entrySet().removeIf(entry -> {
-                if (entry.getKey() == null || entry.getValue() == null) {
-                    return true;
+            if (success) {
+                // Charged to the personal balance in the next reconciliation batch
+                IslandData islandData = plugin.getWalletManager().getPlayerIslandData(player);
+                plugin.getGemTransferReconciler().queueRemoval(playerUUID,
+                        islandData != null ? islandData.getIslandUuid() : null, gemsEarned);
+            } else {
+                // Player is not on an island, gems remain in personal balance
+                if (plugin.getConfigManager().isDebugEnabled()) {
+                    plugin.getLogger().info(String.format("Player %s earned %d gems but is not on an island - gems remain in personal balance",
+                            player.getName(), gemsEarned));
                 }
-                return entry.getValue() < cutoffTime;
-            }) ? 1 : 0;
-
-            if (plugin.getConfigManager().isDebugEnabled()) {
-                plugin.getLogger().info(String.format("Cleaned up %d processed entries and %d pending entries from PlayerPointsListener",
-                        removedProcessed, removedPending));
             }
+
         } catch (Exception e) {
-            plugin.getLogger().log(Level.WARNING, "Error during PlayerPointsListener cleanup", e);
+            plugin.getLogger().log(Level.SEVERE, "Error transferring PlayerPoints gains for " + playerUUID, e);
         }
     }
-}
\ No newline at end of file
+}
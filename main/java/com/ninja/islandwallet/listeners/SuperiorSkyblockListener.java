@@ -3,6 +3,7 @@ package com.ninja.islandwallet.listeners;
 import com.bgsoftware.superiorskyblock.api.events.IslandDisbandEvent;
 import com.bgsoftware.superiorskyblock.api.events.IslandCreateEvent;
 import com.bgsoftware.superiorskyblock.api.events.IslandJoinEvent;
+import com.bgsoftware.superiorskyblock.api.events.IslandKickEvent;
 import com.bgsoftware.superiorskyblock.api.events.IslandQuitEvent;
 import com.ninja.islandwallet.IslandWalletPlugin;
 import org.bukkit.event.EventHandler;
@@ -33,6 +34,11 @@ public class SuperiorSkyblockListener implements Listener {
             // Update island data to ensure it's tracked
             plugin.getWalletManager().updateIslandData(islandId);
             
+            // The creator's old index entry (if any) is stale now
+            if (event.getPlayer() != null) {
+                plugin.getWalletManager().indexPlayer(event.getPlayer().getUniqueId(), event.getIsland().getUniqueId());
+            }
+            
 
         } catch (Exception e) {
             plugin.getLogger().log(Level.WARNING, "Error handling island creation", e);
@@ -49,6 +55,7 @@ public class SuperiorSkyblockListener implements Listener {
             
             // Update island data (this will remove it from database if island is deleted)
             plugin.getWalletManager().updateIslandData(islandId);
+            plugin.getWalletManager().unindexIsland(event.getIsland().getUniqueId());
             
             plugin.getLogger().info("Island disbanded: " + islandId);
             
@@ -67,6 +74,7 @@ public class SuperiorSkyblockListener implements Listener {
             
             // Update island data to reflect new member
             plugin.getWalletManager().updateIslandData(islandId);
+            plugin.getWalletManager().indexPlayer(event.getPlayer().getUniqueId(), event.getIsland().getUniqueId());
             
             if (plugin.getConfigManager().isDebugEnabled()) {
                 plugin.getLogger().info("Player " + event.getPlayer().getName() + 
@@ -88,6 +96,7 @@ public class SuperiorSkyblockListener implements Listener {
             
             // Update island data to reflect member leaving
             plugin.getWalletManager().updateIslandData(islandId);
+            plugin.getWalletManager().unindexPlayer(event.getPlayer().getUniqueId());
             
             if (plugin.getConfigManager().isDebugEnabled()) {
                 plugin.getLogger().info("Player " + event.getPlayer().getName() + 
@@ -98,4 +107,26 @@ public class SuperiorSkyblockListener implements Listener {
             plugin.getLogger().log(Level.WARNING, "Error handling island quit", e);
         }
     }
+    
+    /**
+     * Handle player being kicked from island
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onIslandKick(IslandKickEvent event) {
+        try {
+            String islandId = event.getIsland().getUniqueId().toString();
+            
+            // Update island data to reflect member removal
+            plugin.getWalletManager().updateIslandData(islandId);
+            plugin.getWalletManager().unindexPlayer(event.getTarget().getUniqueId());
+            
+            if (plugin.getConfigManager().isDebugEnabled()) {
+                plugin.getLogger().info("Player " + event.getTarget().getName() + 
+                    " was kicked from island: " + islandId);
+            }
+            
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING, "Error handling island kick", e);
+        }
+    }
 }
\ No newline at end of file
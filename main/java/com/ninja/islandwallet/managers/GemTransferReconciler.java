@@ -0,0 +1,258 @@
+package com.ninja.islandwallet.managers;
+
+import com.ninja.islandwallet.IslandWalletPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * Charges personal PlayerPoints balances for gems already deposited into island wallets
+ * Removals are netted per player and island and processed in one batch per tick, capped at a configured
+ * number of entries, with a single take per entry. Failed takes are retried; once retries run out, whatever cannot
+ * be charged is taken back out of the island so island and personal balances never diverge
+ * All methods run on the main thread
+ */
+public class GemTransferReconciler {
+
+    private final IslandWalletPlugin plugin;
+    private final Map<RemovalKey, PendingRemoval> pendingRemovals = new ConcurrentHashMap<>();
+    private final ArrayDeque<PendingRemoval> queue = new ArrayDeque<>();
+
+    private BukkitTask task;
+    private long tick;
+
+    public GemTransferReconciler(IslandWalletPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    public void start() {
+        if (task != null) {
+            task.cancel();
+        }
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::processTick, 1L, 1L);
+    }
+
+    /**
+     * Stop the batch task and settle everything still pending
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+
+        // Last chance: one take per entry, anything that fails is reversed on its island
+        while (!queue.isEmpty()) {
+            PendingRemoval removal = queue.poll();
+            if (isPending(removal) && !charge(removal)) {
+                settle(removal);
+            }
+        }
+    }
+
+    /**
+     * Record gems that were deposited into an island and must be taken from the player's personal balance
+     */
+    public void queueRemoval(UUID playerUUID, UUID islandUuid, long gems) {
+        if (playerUUID == null || gems <= 0) {
+            return;
+        }
+
+        // Netted per island too, so a player who switches islands is never reversed on the wrong one
+        RemovalKey key = new RemovalKey(playerUUID, islandUuid);
+        PendingRemoval removal = pendingRemovals.get(key);
+        if (removal == null) {
+            removal = new PendingRemoval(key);
+            pendingRemovals.put(key, removal);
+            queue.add(removal);
+        }
+
+        removal.amount += gems;
+    }
+
+    private boolean isPending(PendingRemoval removal) {
+        return pendingRemovals.get(removal.key) == removal;
+    }
+
+    /**
+     * Process up to the per-tick budget of queued entries
+     */
+    private void processTick() {
+        tick++;
+        if (queue.isEmpty()) {
+            return;
+        }
+
+        int budget = plugin.getConfigManager().getGemTransferBatchSize();
+        int retryDelay = plugin.getConfigManager().getGemTransferRetryDelayTicks();
+        int maxAttempts = plugin.getConfigManager().getGemTransferMaxAttempts();
+
+        // Every queued entry is looked at most once per tick
+        int remaining = queue.size();
+        while (remaining-- > 0 && budget > 0) {
+            PendingRemoval removal = queue.poll();
+            if (!isPending(removal)) {
+                continue;
+            }
+
+            if (removal.retryAtTick > tick) {
+                queue.add(removal); // Still backing off
+                continue;
+            }
+
+            budget--;
+            if (charge(removal)) {
+                continue;
+            }
+
+            removal.attempts++;
+            if (removal.attempts >= maxAttempts) {
+                settle(removal);
+            } else {
+                removal.retryAtTick = tick + retryDelay;
+                queue.add(removal);
+            }
+        }
+    }
+
+    /**
+     * Take the net amount from the personal balance in one call
+     *
+     * @return true if the entry is fully charged (or requeued for the rest)
+     */
+    private boolean charge(PendingRemoval removal) {
+        UUID playerUUID = removal.key.playerUUID;
+        org.black_ixx.playerpoints.PlayerPointsAPI playerPointsAPI = getPlayerPointsAPI();
+        if (playerPointsAPI == null) {
+            return false;
+        }
+
+        // PlayerPoints uses int
+        int removeAmount = (int) Math.min(removal.amount, Integer.MAX_VALUE);
+
+        try {
+            if (!playerPointsAPI.take(playerUUID, removeAmount)) {
+                return false;
+            }
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to remove gems from player balance for: " + playerUUID, e);
+            return false;
+        }
+
+        removal.amount -= removeAmount;
+        removal.attempts = 0;
+        if (removal.amount > 0) {
+            queue.add(removal);
+        } else {
+            pendingRemovals.remove(removal.key, removal);
+        }
+
+        Player player = Bukkit.getPlayer(playerUUID);
+        if (player != null && player.isOnline()) {
+            String transferMessage = plugin.getConfigManager().getMessage("gems-transferred");
+            player.sendMessage(plugin.getConfigManager().getPrefix() + transferMessage);
+        }
+
+        if (plugin.getConfigManager().isLogTransactions()) {
+            plugin.getLogger().info(String.format("Successfully transferred %d gems from %s's personal balance to island wallet",
+                    removeAmount, player != null ? player.getName() : playerUUID.toString()));
+        }
+        return true;
+    }
+
+    /**
+     * Give up on retries: charge what the personal balance still holds and reverse the rest on the island
+     */
+    private void settle(PendingRemoval removal) {
+        UUID playerUUID = removal.key.playerUUID;
+        pendingRemovals.remove(removal.key, removal);
+        long uncharged = removal.amount;
+
+        org.black_ixx.playerpoints.PlayerPointsAPI playerPointsAPI = getPlayerPointsAPI();
+        if (playerPointsAPI != null) {
+            try {
+                int available = (int) Math.min(uncharged, Math.max(0, playerPointsAPI.look(playerUUID)));
+                if (available > 0 && playerPointsAPI.take(playerUUID, available)) {
+                    uncharged -= available;
+                }
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.WARNING, "Failed to check PlayerPoints balance for: " + playerUUID, e);
+            }
+        }
+
+        if (uncharged <= 0) {
+            return;
+        }
+
+        long unchargedGems = uncharged;
+        plugin.getWalletManager().reverseGemDeposit(removal.key.islandUuid, uncharged).thenAccept(reversed ->
+                plugin.getLogger().warning("Could not charge " + unchargedGems + " transferred gems to " + playerUUID +
+                        " - reversed " + reversed + " gems on island " + removal.key.islandUuid));
+    }
+
+    /**
+     * FIXED: Get PlayerPoints API with validation
+     */
+    private org.black_ixx.playerpoints.PlayerPointsAPI getPlayerPointsAPI() {
+        try {
+            org.black_ixx.playerpoints.PlayerPoints playerPointsPlugin =
+                    org.black_ixx.playerpoints.PlayerPoints.getInstance();
+
+            if (playerPointsPlugin == null || !playerPointsPlugin.isEnabled()) {
+                return null;
+            }
+
+            return playerPointsPlugin.getAPI();
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Error getting PlayerPoints API", e);
+            return null;
+        }
+    }
+
+    /**
+     * Net amount still owed by one player for deposits into one island (main thread only)
+     */
+    private static final class PendingRemoval {
+        private final RemovalKey key;
+        private long amount;
+        private int attempts;
+        private long retryAtTick;
+
+        private PendingRemoval(RemovalKey key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * The player who owes the gems and the island they were deposited into
+     */
+    private static final class RemovalKey {
+        private final UUID playerUUID;
+        private final UUID islandUuid;
+
+        private RemovalKey(UUID playerUUID, UUID islandUuid) {
+            this.playerUUID = playerUUID;
+            this.islandUuid = islandUuid;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            RemovalKey that = (RemovalKey) o;
+            return playerUUID.equals(that.playerUUID) && Objects.equals(islandUuid, that.islandUuid);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * playerUUID.hashCode() + Objects.hashCode(islandUuid);
+        }
+    }
+}
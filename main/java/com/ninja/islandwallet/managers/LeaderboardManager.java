@@ -2,102 +2,164 @@ package com.ninja.islandwallet.managers;
 
 import com.ninja.islandwallet.IslandWalletPlugin;
 import com.ninja.islandwallet.models.IslandData;
+import com.ninja.islandwallet.models.LeaderboardSnapshot;
+import com.ninja.islandwallet.utils.UuidUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.List;
+import java.util.UUID;
 
 /**
  * Manages leaderboard calculations and rankings
+ * Per-island queries (rank, points to next rank, island at rank) go straight to the live
+ * {@link RankIndex} in O(log n); the full ordering is published as an immutable
+ * {@link LeaderboardSnapshot} by a single background task whenever the index has changed
  */
 public class LeaderboardManager {
     
+    private static final long PUBLISH_INTERVAL_TICKS = 20L;
+    
     private final IslandWalletPlugin plugin;
     private final WalletManager walletManager;
     
-    // Cached leaderboard data
-    private List<IslandData> cachedLeaderboard;
-    private long lastUpdateTime;
-    private static final long CACHE_DURATION = 30000; // 30 seconds
+    // Latest published snapshot; only replaced by publish()
+    private volatile LeaderboardSnapshot snapshot = LeaderboardSnapshot.EMPTY;
+    private BukkitTask publishTask;
     
     public LeaderboardManager(IslandWalletPlugin plugin, WalletManager walletManager) {
         this.plugin = plugin;
         this.walletManager = walletManager;
-        this.cachedLeaderboard = new ArrayList<>();
-        this.lastUpdateTime = 0;
     }
     
     /**
-     * Get current leaderboard sorted by payout points
+     * Start republishing the snapshot in the background whenever the index changes
      */
-    public List<IslandData> getLeaderboard() {
-        return getLeaderboard(false);
+    public void start() {
+        stop();
+        publishTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::publish,
+                PUBLISH_INTERVAL_TICKS, PUBLISH_INTERVAL_TICKS);
+    }
+    
+    public void stop() {
+        if (publishTask != null) {
+            publishTask.cancel();
+            publishTask = null;
+        }
     }
     
     /**
-     * Get leaderboard with option to force update
+     * Last published snapshot (never rebuilds on the caller's thread)
      */
-    public List<IslandData> getLeaderboard(boolean forceUpdate) {
-        long currentTime = System.currentTimeMillis();
+    public LeaderboardSnapshot getSnapshot() {
+        return snapshot;
+    }
+    
+    /**
+     * Version of the last published snapshot
+     */
+    public long getPublishedVersion() {
+        return snapshot.getVersion();
+    }
+    
+    /**
+     * Version of the live index; changes as soon as any ranking changes
+     */
+    public long getIndexVersion() {
+        return walletManager.getRankIndex().getVersion();
+    }
+    
+    /**
+     * Get the snapshot, publishing a current one first if forced
+     */
+    public LeaderboardSnapshot getSnapshot(boolean forceUpdate) {
+        return forceUpdate ? publish() : snapshot;
+    }
+    
+    /**
+     * Publish a snapshot of the index if it changed since the last one
+     * Synchronized so only one build runs at a time; callers that waited find it already current
+     */
+    private synchronized LeaderboardSnapshot publish() {
+        RankIndex index = walletManager.getRankIndex();
+        LeaderboardSnapshot current = snapshot;
+        if (current.getVersion() == index.getVersion()) {
+            return current;
+        }
+        
+        LeaderboardSnapshot rebuilt = index.createSnapshot(plugin.getConfigManager().getPlaceholderTopEntries());
+        snapshot = rebuilt;
         
-        if (forceUpdate || cachedLeaderboard.isEmpty() || (currentTime - lastUpdateTime) > CACHE_DURATION) {
-            updateLeaderboard();
-            lastUpdateTime = currentTime;
+        if (plugin.getConfigManager().isDebugEnabled()) {
+            plugin.getLogger().info("Published leaderboard snapshot v" + rebuilt.getVersion() + " with " + rebuilt.size() + " islands");
         }
         
-        return new ArrayList<>(cachedLeaderboard);
+        return rebuilt;
     }
     
     /**
-     * Update leaderboard from current island data
+     * Get current leaderboard sorted by payout points (unmodifiable)
      */
-    private void updateLeaderboard() {
-        try {
-            Map<String, IslandData> allIslandData = walletManager.getAllIslandData();
-            
-            cachedLeaderboard = allIslandData.values().stream()
-                .filter(island -> island.getPayoutPoints() > 0)
-                .sorted((island1, island2) -> Long.compare(island2.getPayoutPoints(), island1.getPayoutPoints()))
-                .collect(Collectors.toList());
-            
-            if (plugin.getConfigManager().isDebugEnabled()) {
-                plugin.getLogger().info("Updated leaderboard with " + cachedLeaderboard.size() + " islands");
-            }
-            
-        } catch (Exception e) {
-            plugin.getLogger().warning("Failed to update leaderboard: " + e.getMessage());
-        }
+    public List<IslandData> getLeaderboard() {
+        return getLeaderboard(false);
     }
     
     /**
-     * Get top N islands from leaderboard
+     * Get leaderboard with option to force update (unmodifiable)
+     */
+    public List<IslandData> getLeaderboard(boolean forceUpdate) {
+        return getSnapshot(forceUpdate).getIslands();
+    }
+    
+    /**
+     * Get top N islands from the published snapshot (unmodifiable view, no copy)
      */
     public List<IslandData> getTopIslands(int count) {
-        List<IslandData> leaderboard = getLeaderboard();
-        return leaderboard.stream()
-            .limit(count)
-            .collect(Collectors.toList());
+        List<IslandData> islands = snapshot.getIslands();
+        return islands.subList(0, Math.max(0, Math.min(count, islands.size())));
+    }
+    
+    /**
+     * Get island at a leaderboard rank (1-based), or null
+     */
+    public IslandData getIslandAtRank(int rank) {
+        return walletManager.getRankIndex().getAtRank(rank);
+    }
+    
+    /**
+     * Get the points held at a leaderboard rank (1-based), or 0
+     */
+    public long getPointsAtRank(int rank) {
+        return walletManager.getRankIndex().getPointsAtRank(rank);
     }
     
     /**
      * Get island rank by island ID
      */
     public int getIslandRank(String islandId) {
-        List<IslandData> leaderboard = getLeaderboard();
-        
-        for (int i = 0; i < leaderboard.size(); i++) {
-            if (leaderboard.get(i).getIslandId().equals(islandId)) {
-                return i + 1; // Rank starts from 1
-            }
-        }
-        
-        return -1; // Not found in leaderboard
+        return getIslandRank(UuidUtil.islandKey(islandId));
+    }
+    
+    /**
+     * Get island rank by island key
+     */
+    public int getIslandRank(UUID islandUuid) {
+        return walletManager.getRankIndex().getRank(islandUuid);
     }
     
     /**
      * Get island rank by island data
      */
     public int getIslandRank(IslandData islandData) {
-        return getIslandRank(islandData.getIslandId());
+        return getIslandRank(islandData.getIslandUuid());
+    }
+    
+    /**
+     * Points an island needs to pass the island ranked directly above it
+     * Returns 0 for first place and -1 if the island is not ranked
+     */
+    public long getPointsToNextRank(IslandData islandData) {
+        return walletManager.getRankIndex().getPointsToNextRank(islandData.getIslandUuid());
     }
     
     /**
@@ -112,42 +174,51 @@ public class LeaderboardManager {
      * Get total number of islands with points
      */
     public int getTotalParticipatingIslands() {
-        return getLeaderboard().size();
+        return walletManager.getRankIndex().size();
     }
     
     /**
      * Get total points across all islands
      */
     public long getTotalPoints() {
-        return getLeaderboard().stream()
-            .mapToLong(IslandData::getPayoutPoints)
-            .sum();
+        return walletManager.getRankIndex().getTotalPoints();
     }
     
     /**
      * Get leaderboard statistics
      */
     public LeaderboardStats getLeaderboardStats() {
-        List<IslandData> leaderboard = getLeaderboard();
+        RankIndex index = walletManager.getRankIndex();
+        int size = index.size();
         
-        if (leaderboard.isEmpty()) {
+        if (size == 0) {
             return new LeaderboardStats(0, 0, 0, 0);
         }
         
-        long totalPoints = leaderboard.stream().mapToLong(IslandData::getPayoutPoints).sum();
-        long maxPoints = leaderboard.get(0).getPayoutPoints();
-        long minPoints = leaderboard.get(leaderboard.size() - 1).getPayoutPoints();
-        long averagePoints = totalPoints / leaderboard.size();
+        long totalPoints = index.getTotalPoints();
+        long maxPoints = index.getPointsAtRank(1);
+        long minPoints = index.getPointsAtRank(size);
+        long averagePoints = totalPoints / size;
         
         return new LeaderboardStats(totalPoints, maxPoints, minPoints, averagePoints);
     }
     
     /**
      * Force refresh leaderboard cache
+     * Rebuilds the index from the island cache in case anything drifted, then republishes
      */
     public void refreshLeaderboard() {
-        updateLeaderboard();
-        lastUpdateTime = System.currentTimeMillis();
+        try {
+            walletManager.getRankIndex().rebuild(walletManager.getAllIslandData().values());
+            LeaderboardSnapshot rebuilt = getSnapshot(true);
+            
+            if (plugin.getConfigManager().isDebugEnabled()) {
+                plugin.getLogger().info("Rebuilt leaderboard index with " + rebuilt.size() + " islands");
+            }
+            
+        } catch (Exception e) {
+            plugin.getLogger().warning("Failed to update leaderboard: " + e.getMessage());
+        }
     }
     
     /**
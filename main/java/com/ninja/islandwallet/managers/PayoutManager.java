@@ -26,31 +26,61 @@ public class PayoutManager {
     private final LeaderboardManager leaderboardManager;
     private final AtomicBoolean payoutInProgress = new AtomicBoolean(false);
 
+    // Epoch second of the next payout, or 0 while no payout has been recorded yet
+    private volatile long nextPayoutDeadline;
+    private volatile long payoutInterval;
+    private volatile Countdown countdown = new Countdown(-1, 0);
+
     public PayoutManager(IslandWalletPlugin plugin, WalletManager walletManager, LeaderboardManager leaderboardManager) {
         this.plugin = plugin;
         this.walletManager = walletManager;
         this.leaderboardManager = leaderboardManager;
+        refreshDeadline();
+    }
+
+    /**
+     * Re-read the last payout time and interval from the config (on load, reload and every payout)
+     */
+    public void refreshDeadline() {
+        long lastPayoutTime = plugin.getConfigManager().getLastPayoutTime();
+        long interval = plugin.getConfigManager().getPayoutInterval();
+
+        payoutInterval = interval;
+        nextPayoutDeadline = lastPayoutTime == 0 ? 0 : lastPayoutTime + interval;
+        countdown = new Countdown(-1, 0); // Rebuilt on next read
+    }
+
+    private void recordPayoutTime(long time) {
+        plugin.getConfigManager().setLastPayoutTime(time);
+        refreshDeadline();
     }
 
     /**
      * CRITICAL: Process payout cycle (only tracks winners, NO money distribution)
      * ENHANCED: Now updates last payout time for time remaining calculations
+     *
+     * @return false if refused because island data is still loading
      */
-    public void processPayout() {
+    public boolean processPayout() {
+        if (!isDataReady("payout")) {
+            return false;
+        }
+
         if (!payoutInProgress.compareAndSet(false, true)) {
             plugin.getLogger().warning("Payout already in progress, skipping...");
-            return;
+            return true;
         }
 
         try {
             plugin.getLogger().info("Processing payout cycle (tracking winners only)...");
 
             // Get current leaderboard based on payout points only
-            List<IslandData> leaderboard = leaderboardManager.getLeaderboard(true);
+            // Snapshot lists are shared and unmodifiable - work on a copy
+            List<IslandData> leaderboard = new ArrayList<>(leaderboardManager.getLeaderboard(true));
 
             if (leaderboard.isEmpty()) {
                 plugin.getLogger().info("No islands with payout points found - skipping payout");
-                return;
+                return true;
             }
 
             // Validate leaderboard data
@@ -58,15 +88,18 @@ public class PayoutManager {
 
             if (leaderboard.isEmpty()) {
                 plugin.getLogger().info("No valid islands for payout after validation");
-                return;
+                return true;
             }
 
-            // Get current season
-            int currentSeason = plugin.getDatabaseManager().getCurrentSeason();
+            // Get current season (cached - this runs on the main thread)
+            int currentSeason = plugin.getSeasonHistoryCache().getCurrentSeason();
 
             // Create payout winners for history (NO money distribution)
             List<PayoutWinner> winners = createPayoutWinners(leaderboard, currentSeason);
 
+            // Cache the results now; the database save below finishes in the background
+            plugin.getSeasonHistoryCache().recordPayout(currentSeason, winners);
+
             // Save winners to database asynchronously
             CompletableFuture.runAsync(() -> {
                 try {
@@ -79,7 +112,7 @@ public class PayoutManager {
 
             // ENHANCED: Update last payout time for time remaining calculations
             long currentTime = System.currentTimeMillis() / 1000; // Convert to seconds
-            plugin.getConfigManager().setLastPayoutTime(currentTime);
+            recordPayoutTime(currentTime);
 
             // Announce winners (NO money amounts)
             announceWinners(winners);
@@ -96,12 +129,33 @@ public class PayoutManager {
         } finally {
             payoutInProgress.set(false);
         }
+        return true;
+    }
+
+    /**
+     * Payouts rank every island, so they wait until the warm-up (including the one after a storage switch)
+     * has loaded all of them
+     */
+    private boolean isDataReady(String action) {
+        if (plugin.getStartupManager().isReady()) {
+            return true;
+        }
+
+        plugin.getLogger().warning("Island data is still loading (" + plugin.getStartupManager().getProgress() +
+                "%) - " + action + " refused");
+        return false;
     }
 
     /**
      * Force complete payout cycle (admin command)
+     *
+     * @return false if refused because island data is still loading
      */
-    public void forceCompletePayout() {
+    public boolean forceCompletePayout() {
+        if (!isDataReady("forced payout")) {
+            return false;
+        }
+
         plugin.getLogger().info("Admin force-completing payout cycle...");
 
         // Process in separate thread to avoid blocking
@@ -114,6 +168,7 @@ public class PayoutManager {
                 Bukkit.broadcastMessage(plugin.getConfigManager().getPrefix() + message);
             });
         });
+        return true;
     }
 
     /**
@@ -223,6 +278,7 @@ public class PayoutManager {
     /**
      * CRITICAL: Start new payout cycle (reset payout points only, preserve gems)
      * ENHANCED: Updates last payout time
+     * The season increment waits on the database, so it runs off the main thread
      */
     public void startNewCycle() {
         try {
@@ -231,21 +287,29 @@ public class PayoutManager {
             // Reset only payout points, keep gems intact
             walletManager.resetAllPayoutPoints();
 
-            // Increment season
-            int newSeason = plugin.getDatabaseManager().getNextSeason();
-
             // ENHANCED: Update last payout time
             long currentTime = System.currentTimeMillis() / 1000; // Convert to seconds
-            plugin.getConfigManager().setLastPayoutTime(currentTime);
+            recordPayoutTime(currentTime);
 
             // Refresh leaderboard
             leaderboardManager.refreshLeaderboard();
 
-            // Announce new cycle
-            String newCycleMessage = plugin.getConfigManager().getMessage("payout-cycle-started");
-            Bukkit.broadcastMessage(plugin.getConfigManager().getPrefix() + newCycleMessage);
+            // Increment season - the cache moves on now, storage confirms the number in the background
+            plugin.getSeasonHistoryCache().advanceSeason();
+            CompletableFuture.supplyAsync(() -> plugin.getDatabaseManager().getNextSeason())
+                    .thenAccept(newSeason -> Bukkit.getScheduler().runTask(plugin, () -> {
+                        plugin.getSeasonHistoryCache().setCurrentSeason(newSeason);
+
+                        // Announce new cycle
+                        String newCycleMessage = plugin.getConfigManager().getMessage("payout-cycle-started");
+                        Bukkit.broadcastMessage(plugin.getConfigManager().getPrefix() + newCycleMessage);
 
-            plugin.getLogger().info("Started new payout cycle - Season " + newSeason + " (gems preserved)");
+                        plugin.getLogger().info("Started new payout cycle - Season " + newSeason + " (gems preserved)");
+                    }))
+                    .exceptionally(e -> {
+                        plugin.getLogger().log(Level.SEVERE, "Failed to advance season for new payout cycle", e);
+                        return null;
+                    });
 
         } catch (Exception e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to start new payout cycle", e);
@@ -254,13 +318,21 @@ public class PayoutManager {
 
     /**
      * Force reset payout cycle (admin command)
+     *
+     * @return false if refused because island data is still loading
      */
-    public void forceResetCycle() {
+    public boolean forceResetCycle() {
+        if (!isDataReady("cycle reset")) {
+            return false;
+        }
+
         plugin.getLogger().info("Admin force-resetting payout cycle...");
 
         // Force complete current cycle then start new one
         CompletableFuture.runAsync(() -> {
-            forceCompletePayout();
+            if (!forceCompletePayout()) {
+                return; // A storage switch restarted the warm-up meanwhile
+            }
 
             // Wait a moment for completion
             try {
@@ -271,25 +343,38 @@ public class PayoutManager {
 
             startNewCycle();
         });
+        return true;
     }
 
     /**
      * ENHANCED: Get time until next payout (in seconds) based on last payout time
      */
     public long getTimeUntilNextPayout() {
-        long lastPayoutTime = plugin.getConfigManager().getLastPayoutTime();
-        long payoutInterval = plugin.getConfigManager().getPayoutInterval();
+        return getTimeUntilNextPayout(System.currentTimeMillis() / 1000);
+    }
 
-        if (lastPayoutTime == 0) {
+    private long getTimeUntilNextPayout(long currentTime) {
+        long deadline = nextPayoutDeadline;
+        if (deadline == 0) {
             // No previous payout recorded, return full interval
             return payoutInterval;
         }
+        return Math.max(0, deadline - currentTime);
+    }
 
-        long currentTime = System.currentTimeMillis() / 1000; // Convert to seconds
-        long timeSinceLastPayout = currentTime - lastPayoutTime;
-        long timeRemaining = payoutInterval - timeSinceLastPayout;
-
-        return Math.max(0, timeRemaining);
+    /**
+     * Countdown to the next payout in every display format
+     * Built at most once per second and shared by all readers
+     */
+    public Countdown getCountdown() {
+        long currentTime = System.currentTimeMillis() / 1000;
+        Countdown current = countdown;
+        if (current.second != currentTime) {
+            // Racing threads build equal values - whichever is stored last is fine
+            current = new Countdown(currentTime, getTimeUntilNextPayout(currentTime));
+            countdown = current;
+        }
+        return current;
     }
 
     /**
@@ -303,7 +388,7 @@ public class PayoutManager {
      * Get current season information
      */
     public int getCurrentSeason() {
-        return plugin.getDatabaseManager().getCurrentSeason();
+        return plugin.getSeasonHistoryCache().getCurrentSeason();
     }
 
     /**
@@ -314,8 +399,8 @@ public class PayoutManager {
             // Check if leaderboard is accessible
             List<IslandData> leaderboard = leaderboardManager.getLeaderboard();
 
-            // Check if database is accessible
-            int currentSeason = plugin.getDatabaseManager().getCurrentSeason();
+            // Season comes from the cache - this runs on the main thread
+            int currentSeason = plugin.getSeasonHistoryCache().getCurrentSeason();
 
             // Check configuration
             boolean configValid = plugin.getConfigManager().validateConfiguration();
@@ -327,4 +412,81 @@ public class PayoutManager {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Immutable countdown strings for one second
+     */
+    public static final class Countdown {
+        private final long second;
+        private final long remaining;
+        private final String seconds;
+        private final String formatted;
+        private final String hours;
+        private final String minutes;
+        private final String compact;
+        private final String shortFormat;
+        private final String dhm;
+        private final String days;
+        private final String hoursOnly;
+        private final String minutesOnly;
+
+        private Countdown(long second, long remaining) {
+            this.second = second;
+            this.remaining = remaining;
+            this.seconds = String.valueOf(remaining);
+            this.formatted = MessageUtil.formatTimeRemaining(remaining);
+            this.hours = MessageUtil.formatTimeRemainingHours(remaining);
+            this.minutes = MessageUtil.formatTimeRemainingMinutes(remaining);
+            this.compact = MessageUtil.formatTimeRemainingCompact(remaining);
+            this.shortFormat = MessageUtil.formatTimeRemainingShort(remaining);
+            this.dhm = MessageUtil.formatTimeRemainingDHM(remaining);
+            this.days = String.valueOf(remaining / 86400);
+            this.hoursOnly = String.valueOf((remaining % 86400) / 3600);
+            this.minutesOnly = String.valueOf((remaining % 3600) / 60);
+        }
+
+        public long getRemaining() {
+            return remaining;
+        }
+
+        public String getSeconds() {
+            return seconds;
+        }
+
+        public String getFormatted() {
+            return formatted;
+        }
+
+        public String getHours() {
+            return hours;
+        }
+
+        public String getMinutes() {
+            return minutes;
+        }
+
+        public String getCompact() {
+            return compact;
+        }
+
+        public String getShort() {
+            return shortFormat;
+        }
+
+        public String getDHM() {
+            return dhm;
+        }
+
+        public String getDays() {
+            return days;
+        }
+
+        public String getHoursOnly() {
+            return hoursOnly;
+        }
+
+        public String getMinutesOnly() {
+            return minutesOnly;
+        }
+    }
+}
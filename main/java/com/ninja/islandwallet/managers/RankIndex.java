@@ -0,0 +1,348 @@
+package com.ninja.islandwallet.managers;
+
+import com.ninja.islandwallet.models.IslandData;
+import com.ninja.islandwallet.models.LeaderboardSnapshot;
+import com.ninja.islandwallet.models.PayoutPointsListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Order-statistic index of islands by payout points (highest first, ties by island key)
+ * Backed by a persistent treap with subtree sizes and point sums, so rank, select and insert/remove
+ * are O(log n). Writers publish a new root under the lock; reads take the volatile root once and
+ * walk that consistent tree without locking, so placeholder lookups never wait on a writer.
+ * Islands report their own point changes through {@link PayoutPointsListener}, which keeps the
+ * index always current instead of being re-sorted on a timer
+ */
+public class RankIndex implements PayoutPointsListener {
+
+    private final Random random = new Random();
+    private final Map<UUID, Node> nodes = new ConcurrentHashMap<>(); // Written under the lock, read without it
+    private final Map<UUID, IslandData> islands = new HashMap<>();
+    private volatile Node root;
+    private volatile long version; // Written under the lock, read without it
+
+    /**
+     * Start tracking an island and index its current points
+     */
+    public void track(IslandData islandData) {
+        islandData.setPayoutPointsListener(this);
+        update(islandData);
+    }
+
+    /**
+     * Stop tracking an island and drop it from the ranking
+     */
+    public synchronized void untrack(UUID islandUuid) {
+        IslandData islandData = islands.remove(islandUuid);
+        if (islandData != null) {
+            islandData.setPayoutPointsListener(null);
+        }
+        removeNode(islandUuid);
+    }
+
+    /**
+     * Replace the whole index with the given islands
+     */
+    public synchronized void rebuild(Collection<IslandData> allIslands) {
+        for (IslandData islandData : islands.values()) {
+            islandData.setPayoutPointsListener(null);
+        }
+        islands.clear();
+        nodes.clear();
+        root = null;
+        version++;
+
+        for (IslandData islandData : allIslands) {
+            track(islandData);
+        }
+    }
+
+    @Override
+    public void onPayoutPointsChanged(IslandData islandData) {
+        update(islandData);
+    }
+
+    /**
+     * Re-index an island from its current points
+     * The value is read under the lock, so concurrent updates always converge on the latest points
+     */
+    private synchronized void update(IslandData islandData) {
+        if (islandData.getPayoutPointsListener() != this) {
+            return; // Untracked while the notification was in flight
+        }
+
+        UUID islandId = islandData.getIslandUuid();
+        islands.put(islandId, islandData);
+
+        long points = islandData.getPayoutPoints();
+        Node existing = nodes.get(islandId);
+        if (existing != null && existing.points == points) {
+            return;
+        }
+
+        removeNode(islandId);
+
+        // Only islands with points take part in the leaderboard
+        if (points > 0) {
+            Node node = new Node(islandId, islandData, points, random.nextInt(), null, null);
+            root = insert(root, node);
+            nodes.put(islandId, node);
+            version++;
+        }
+    }
+
+    private void removeNode(UUID islandId) {
+        Node node = nodes.remove(islandId);
+        if (node != null) {
+            root = remove(root, node.points, node.islandId);
+            version++;
+        }
+    }
+
+    /**
+     * 1-based rank of an island, or -1 if it has no points
+     */
+    public int getRank(UUID islandId) {
+        Node node = nodes.get(islandId);
+        if (node == null) {
+            return -1;
+        }
+        return countBefore(root, node.points, node.islandId) + 1;
+    }
+
+    /**
+     * Island at a 1-based rank, or null if out of range
+     */
+    public IslandData getAtRank(int rank) {
+        Node current = root;
+        if (rank < 1 || rank > size(current)) {
+            return null;
+        }
+        return select(current, rank - 1).island;
+    }
+
+    /**
+     * Points an island needs to overtake the island ranked directly above it
+     *
+     * @return 0 for the first place, -1 if the island is not ranked
+     */
+    public long getPointsToNextRank(UUID islandId) {
+        Node node = nodes.get(islandId);
+        if (node == null) {
+            return -1;
+        }
+
+        Node current = root;
+        int index = countBefore(current, node.points, node.islandId);
+        if (index == 0) {
+            return 0;
+        }
+
+        Node above = select(current, index - 1);
+        return above.points - node.points + 1;
+    }
+
+    /**
+     * Points of the island at a 1-based rank, or 0 if out of range
+     */
+    public long getPointsAtRank(int rank) {
+        Node current = root;
+        if (rank < 1 || rank > size(current)) {
+            return 0;
+        }
+        return select(current, rank - 1).points;
+    }
+
+    /**
+     * Build an immutable snapshot of the current ordering
+     * Nodes are never modified once linked, so only the root is taken under the lock
+     * and the O(n) walk runs without blocking writers
+     *
+     * @param formattedEntries leading ranks to prebuild display strings for
+     */
+    public LeaderboardSnapshot createSnapshot(int formattedEntries) {
+        Node snapshotRoot;
+        long snapshotVersion;
+        synchronized (this) {
+            snapshotRoot = root;
+            snapshotVersion = version;
+        }
+
+        int count = size(snapshotRoot);
+        List<IslandData> ordered = new ArrayList<>(count);
+        long[] points = new long[count];
+        fillSnapshot(snapshotRoot, ordered, points);
+        return new LeaderboardSnapshot(snapshotVersion, ordered, points, formattedEntries);
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public long getTotalPoints() {
+        Node current = root;
+        return current != null ? current.sum : 0;
+    }
+
+    /**
+     * Incremented on every change to the ordering
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    // Treap internals - persistent: changes copy the path they touch instead of modifying nodes
+
+    private static int compare(long pointsA, UUID idA, long pointsB, UUID idB) {
+        if (pointsA != pointsB) {
+            return Long.compare(pointsB, pointsA); // Highest points first
+        }
+        return idA.compareTo(idB);
+    }
+
+    private static int size(Node node) {
+        return node != null ? node.size : 0;
+    }
+
+    private static Node insert(Node node, Node item) {
+        if (node == null) {
+            return item;
+        }
+
+        if (item.priority > node.priority) {
+            Node[] parts = split(node, item.points, item.islandId);
+            return item.with(parts[0], parts[1]);
+        }
+
+        if (compare(item.points, item.islandId, node.points, node.islandId) < 0) {
+            return node.with(insert(node.left, item), node.right);
+        }
+        return node.with(node.left, insert(node.right, item));
+    }
+
+    /**
+     * Split into nodes ordered before the key and nodes at or after it
+     */
+    private static Node[] split(Node node, long points, UUID islandId) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+
+        if (compare(node.points, node.islandId, points, islandId) < 0) {
+            Node[] parts = split(node.right, points, islandId);
+            return new Node[]{node.with(node.left, parts[0]), parts[1]};
+        }
+
+        Node[] parts = split(node.left, points, islandId);
+        return new Node[]{parts[0], node.with(parts[1], node.right)};
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+
+        if (left.priority > right.priority) {
+            return left.with(left.left, merge(left.right, right));
+        }
+        return right.with(merge(left, right.left), right.right);
+    }
+
+    private static Node remove(Node node, long points, UUID islandId) {
+        if (node == null) {
+            return null;
+        }
+
+        int comparison = compare(points, islandId, node.points, node.islandId);
+        if (comparison == 0) {
+            return merge(node.left, node.right);
+        }
+
+        if (comparison < 0) {
+            return node.with(remove(node.left, points, islandId), node.right);
+        }
+        return node.with(node.left, remove(node.right, points, islandId));
+    }
+
+    private static int countBefore(Node node, long points, UUID islandId) {
+        int count = 0;
+        while (node != null) {
+            int comparison = compare(points, islandId, node.points, node.islandId);
+            if (comparison <= 0) {
+                if (comparison == 0) {
+                    return count + size(node.left);
+                }
+                node = node.left;
+            } else {
+                count += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return count;
+    }
+
+    private static Node select(Node node, int index) {
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        return null;
+    }
+
+    private static void fillSnapshot(Node node, List<IslandData> ordered, long[] points) {
+        if (node == null) {
+            return;
+        }
+        fillSnapshot(node.left, ordered, points);
+        points[ordered.size()] = node.points;
+        ordered.add(node.island);
+        fillSnapshot(node.right, ordered, points);
+    }
+
+    /**
+     * Immutable treap node with subtree size and point sum
+     */
+    private static final class Node {
+        private final UUID islandId;
+        private final IslandData island;
+        private final long points;
+        private final int priority;
+        private final Node left;
+        private final Node right;
+        private final int size;
+        private final long sum;
+
+        private Node(UUID islandId, IslandData island, long points, int priority, Node left, Node right) {
+            this.islandId = islandId;
+            this.island = island;
+            this.points = points;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            this.size = 1 + RankIndex.size(left) + RankIndex.size(right);
+            this.sum = points + (left != null ? left.sum : 0) + (right != null ? right.sum : 0);
+        }
+
+        private Node with(Node newLeft, Node newRight) {
+            return new Node(islandId, island, points, priority, newLeft, newRight);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.ninja.islandwallet.managers;
+
+import com.ninja.islandwallet.IslandWalletPlugin;
+import com.ninja.islandwallet.models.PayoutWinner;
+import com.ninja.islandwallet.utils.UuidUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory payout history
+ * Closed seasons never change, so each one is loaded from storage once and indexed by island key.
+ * Only a payout (or a reload) changes what is cached here
+ */
+public class SeasonHistoryCache {
+
+    private final IslandWalletPlugin plugin;
+    private final Map<Integer, SeasonHistory> seasons = new ConcurrentHashMap<>();
+    private volatile int currentSeason = -1;
+
+    public SeasonHistoryCache(IslandWalletPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Current season number, read from storage once and then kept in memory
+     */
+    public int getCurrentSeason() {
+        int season = currentSeason;
+        if (season < 1) {
+            season = plugin.getDatabaseManager().getCurrentSeason();
+            currentSeason = season;
+        }
+        return season;
+    }
+
+    /**
+     * The most recently closed season, or 0 if there is none yet
+     */
+    public int getLastSeason() {
+        return Math.max(0, getCurrentSeason() - 1);
+    }
+
+    /**
+     * Get an island's result in a season
+     *
+     * @return the winner entry, or null if the island did not place
+     */
+    public PayoutWinner getWinner(int season, UUID islandUuid) {
+        if (season < 1 || islandUuid == null) {
+            return null;
+        }
+
+        SeasonHistory history = getHistory(season);
+        if (history != null) {
+            return history.byIsland.get(islandUuid);
+        }
+        return plugin.getDatabaseManager().loadPayoutWinner(season, islandUuid.toString());
+    }
+
+    /**
+     * Get all winners of a season ordered by rank (returns a copy)
+     */
+    public List<PayoutWinner> getWinners(int season) {
+        if (season < 1) {
+            return new ArrayList<>();
+        }
+
+        SeasonHistory history = getHistory(season);
+        if (history != null) {
+            return new ArrayList<>(history.winners);
+        }
+        return plugin.getDatabaseManager().loadPayoutWinners(season);
+    }
+
+    /**
+     * Get the best ranked winners of a season (returns a copy)
+     */
+    public List<PayoutWinner> getTopWinners(int season, int limit) {
+        if (season < 1 || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        SeasonHistory history = getHistory(season);
+        if (history != null) {
+            return new ArrayList<>(history.winners.subList(0, Math.min(limit, history.winners.size())));
+        }
+        return plugin.getDatabaseManager().loadTopPayoutWinners(season, limit);
+    }
+
+    /**
+     * Cached history for a closed season, loading it on first use
+     * Returns null for the running season, which is still open
+     */
+    private SeasonHistory getHistory(int season) {
+        SeasonHistory history = seasons.get(season);
+        if (history != null) {
+            return history;
+        }
+
+        if (season >= getCurrentSeason()) {
+            return null;
+        }
+
+        return seasons.computeIfAbsent(season, s -> new SeasonHistory(plugin.getDatabaseManager().loadPayoutWinners(s)));
+    }
+
+    /**
+     * Load the current season number and the last closed season ahead of first use
+     */
+    public void warmUp() {
+        int lastSeason = getLastSeason();
+        if (lastSeason > 0) {
+            getHistory(lastSeason);
+        }
+    }
+
+    /**
+     * Record the winners of a payout that just finished
+     * The list is cached directly, so readers never depend on the asynchronous database save
+     */
+    public void recordPayout(int season, List<PayoutWinner> winners) {
+        seasons.put(season, new SeasonHistory(winners));
+    }
+
+    /**
+     * Move to the next season as soon as a cycle starts, so readers see it before storage catches up
+     *
+     * @return the new season number
+     */
+    public int advanceSeason() {
+        int season = getCurrentSeason() + 1;
+        currentSeason = season;
+        return season;
+    }
+
+    /**
+     * Update the cached season number after a new cycle starts
+     */
+    public void setCurrentSeason(int season) {
+        currentSeason = season;
+    }
+
+    /**
+     * Drop everything, e.g. after the storage backend changed
+     */
+    public void invalidate() {
+        seasons.clear();
+        currentSeason = -1;
+    }
+
+    public int getCachedSeasonCount() {
+        return seasons.size();
+    }
+
+    /**
+     * Immutable winners of one season with an island key index
+     * Stored IDs are parsed once here, so lookups never compare strings
+     */
+    private static final class SeasonHistory {
+        private final List<PayoutWinner> winners;
+        private final Map<UUID, PayoutWinner> byIsland;
+
+        private SeasonHistory(List<PayoutWinner> winners) {
+            List<PayoutWinner> sorted = new ArrayList<>(winners);
+            sorted.sort((w1, w2) -> Integer.compare(w1.getRank(), w2.getRank()));
+
+            Map<UUID, PayoutWinner> index = new HashMap<>(sorted.size() * 2);
+            for (PayoutWinner winner : sorted) {
+                UUID islandUuid = UuidUtil.islandKey(winner.getIslandId());
+                if (islandUuid != null) {
+                    // Keep the best rank if an island somehow appears twice
+                    index.putIfAbsent(islandUuid, winner);
+                }
+            }
+
+            this.winners = Collections.unmodifiableList(sorted);
+            this.byIsland = index;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.ninja.islandwallet.managers;
+
+import com.ninja.islandwallet.IslandWalletPlugin;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+/**
+ * Startup warm-up pipeline
+ * Islands load in parallel partitions while the payout history is warmed; the leaderboard snapshot
+ * is published once both are done. Until then commands and placeholders report a loading state
+ * instead of serving rankings from a half-filled cache
+ */
+public class StartupManager {
+
+    private final IslandWalletPlugin plugin;
+    private final AtomicLong islandsRead = new AtomicLong();
+    private final AtomicInteger threadCounter = new AtomicInteger();
+
+    private volatile CompletableFuture<Void> readyFuture = new CompletableFuture<>();
+    private volatile long totalIslands;
+
+    public StartupManager(IslandWalletPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Start (or restart, after a storage change) the warm-up
+     *
+     * @return future completed once all data is loaded and indexed
+     */
+    public synchronized CompletableFuture<Void> start() {
+        CompletableFuture<Void> ready = new CompletableFuture<>();
+        readyFuture = ready;
+        islandsRead.set(0);
+        totalIslands = 0;
+
+        long startTime = System.currentTimeMillis();
+        int threads = plugin.getConfigManager().getStartupLoaderThreads();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "IslandWallet-Loader-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        CompletableFuture<Void> islands = CompletableFuture
+                .runAsync(() -> totalIslands = plugin.getDatabaseManager().countIslandData(), executor)
+                .thenCompose(ignored -> plugin.getWalletManager().loadAllIslandData(threads, executor, islandsRead::incrementAndGet));
+
+        CompletableFuture<Void> history = CompletableFuture.runAsync(() -> plugin.getSeasonHistoryCache().warmUp(), executor);
+
+        CompletableFuture.allOf(islands, history).whenComplete((ignored, error) -> {
+            executor.shutdown();
+
+            if (error != null) {
+                plugin.getLogger().log(Level.SEVERE, "Startup warm-up failed - serving the data loaded so far", error);
+            }
+
+            // Publish the first complete leaderboard before anyone can read it
+            plugin.getLeaderboardManager().getSnapshot(true);
+            ready.complete(null);
+
+            plugin.getLogger().info("Island data ready in " + (System.currentTimeMillis() - startTime) + "ms");
+        });
+
+        return ready;
+    }
+
+    /**
+     * True once the latest warm-up has finished
+     */
+    public boolean isReady() {
+        return readyFuture.isDone();
+    }
+
+    public CompletableFuture<Void> getReadyFuture() {
+        return readyFuture;
+    }
+
+    /**
+     * Warm-up progress from 0 to 100 (100 only once ready)
+     */
+    public int getProgress() {
+        if (isReady()) {
+            return 100;
+        }
+
+        long total = totalIslands;
+        if (total <= 0) {
+            return 0;
+        }
+        return (int) Math.min(99, islandsRead.get() * 100 / total);
+    }
+}
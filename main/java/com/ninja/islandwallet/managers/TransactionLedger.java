@@ -0,0 +1,220 @@
+package com.ninja.islandwallet.managers;
+
+import com.ninja.islandwallet.IslandWalletPlugin;
+import com.ninja.islandwallet.data.DatabaseManager;
+import com.ninja.islandwallet.models.IslandData;
+import com.ninja.islandwallet.models.LedgerEntry;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+/**
+ * Append-only ledger of every gem and payout point movement
+ * Recording only queues an immutable entry; an async task writes the queue to storage in batches,
+ * so the wallet hot path never waits on I/O
+ */
+public class TransactionLedger {
+
+    private final IslandWalletPlugin plugin;
+    private final ConcurrentLinkedQueue<LedgerEntry> pending = new ConcurrentLinkedQueue<>();
+    // Start time in the high bits keeps ids increasing across restarts
+    private final AtomicLong nextId = new AtomicLong(System.currentTimeMillis() << 20);
+    private final Object flushLock = new Object();
+    private final List<LedgerEntry> failed = new ArrayList<>(); // Guarded by flushLock
+
+    private BukkitTask flushTask;
+
+    public TransactionLedger(IslandWalletPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    public void start() {
+        if (flushTask != null) {
+            flushTask.cancel();
+        }
+        long interval = plugin.getConfigManager().getLedgerFlushIntervalTicks();
+        flushTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::flush, interval, interval);
+    }
+
+    /**
+     * Stop the flush task and write whatever is still queued
+     */
+    public void stop() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        flush();
+    }
+
+    /**
+     * Queue one movement (any thread)
+     *
+     * @param actor   player who caused it, or null for the console/system
+     * @param balance the island's gems (or payout points) right after the movement
+     */
+    public void record(UUID islandUuid, UUID actor, LedgerEntry.Kind kind, long delta, long balance) {
+        if (islandUuid == null || !plugin.getConfigManager().isLedgerEnabled()) {
+            return;
+        }
+        pending.add(new LedgerEntry(nextId.getAndIncrement(), islandUuid, actor, kind, delta, balance,
+                System.currentTimeMillis()));
+    }
+
+    /**
+     * Write queued entries to storage in one batch; a failed batch is retried first on the next flush
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            List<LedgerEntry> batch = new ArrayList<>(failed);
+            failed.clear();
+
+            LedgerEntry entry;
+            while ((entry = pending.poll()) != null) {
+                batch.add(entry);
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            DatabaseManager databaseManager = plugin.getDatabaseManager();
+            boolean saved = false;
+            try {
+                saved = databaseManager != null && databaseManager.saveLedgerEntries(batch);
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.SEVERE, "Error writing ledger entries", e);
+            }
+
+            if (!saved) {
+                failed.addAll(batch);
+                plugin.getLogger().warning("Could not write " + batch.size() + " ledger entries - retrying on the next flush");
+            }
+        }
+    }
+
+    /**
+     * An island's most recent entries, newest first (blocks on storage - call off the main thread)
+     *
+     * @param limit maximum number of entries, 0 for all
+     */
+    public List<LedgerEntry> getRecentEntries(UUID islandUuid, int limit) {
+        flush();
+        DatabaseManager databaseManager = plugin.getDatabaseManager();
+        if (databaseManager == null || islandUuid == null) {
+            return Collections.emptyList();
+        }
+        return databaseManager.loadLedgerEntries(islandUuid, limit);
+    }
+
+    /**
+     * Id of the newest entry recorded so far
+     * Read on the main thread together with the island's gems, it marks which entries that balance includes
+     */
+    public long getLastEntryId() {
+        return nextId.get() - 1;
+    }
+
+    /**
+     * Replay an island's gem history from the start and check it against a balance captured earlier
+     * Every entry must start from the balance the previous one left; payout points are skipped
+     * because season resets clear them outside the ledger. Entries newer than lastEntryId are
+     * ignored, so movements made while the replay runs cannot cause a false mismatch (call off the main thread)
+     *
+     * @param currentBalance the island's gems, read on the main thread together with lastEntryId
+     */
+    public ReplayResult replay(UUID islandUuid, long currentBalance, long lastEntryId) {
+        List<LedgerEntry> entries = new ArrayList<>(getRecentEntries(islandUuid, 0));
+        Collections.reverse(entries); // Oldest first
+
+        int checked = 0;
+        int gaps = 0;
+        long ledgerBalance = -1;
+        for (LedgerEntry entry : entries) {
+            if (entry.getKind().isPayoutPoints() || entry.getId() > lastEntryId) {
+                continue;
+            }
+            if (ledgerBalance >= 0 && entry.getBalance() - entry.getDelta() != ledgerBalance) {
+                gaps++;
+            }
+            ledgerBalance = entry.getBalance();
+            checked++;
+        }
+
+        return new ReplayResult(checked, gaps, ledgerBalance, currentBalance);
+    }
+
+    /**
+     * Move the island's gems by the difference between its ledger and replayed balance, recording
+     * the correction itself. Applied as a delta, so movements made since the replay are kept (main thread)
+     *
+     * @return false if the ledger has no gem history or the island no longer holds the gems to remove
+     */
+    public boolean applyReplay(IslandData islandData, ReplayResult result) {
+        if (result.getLedgerBalance() < 0) {
+            return false;
+        }
+
+        long correction = result.getLedgerBalance() - result.getCurrentBalance();
+        if (correction == 0) {
+            return true;
+        }
+
+        long balance = correction > 0
+                ? islandData.addGems(correction)
+                : islandData.tryWithdrawGems(-correction);
+        if (balance < 0) {
+            return false;
+        }
+
+        record(islandData.getIslandUuid(), null, LedgerEntry.Kind.REPLAY_CORRECTION, correction, balance);
+        plugin.getWalletManager().saveIslandDataAsync(islandData);
+        return true;
+    }
+
+    /**
+     * Outcome of replaying one island
+     */
+    public static final class ReplayResult {
+        private final int entryCount;
+        private final int gapCount;
+        private final long ledgerBalance;
+        private final long currentBalance;
+
+        ReplayResult(int entryCount, int gapCount, long ledgerBalance, long currentBalance) {
+            this.entryCount = entryCount;
+            this.gapCount = gapCount;
+            this.ledgerBalance = ledgerBalance;
+            this.currentBalance = currentBalance;
+        }
+
+        public int getEntryCount() {
+            return entryCount;
+        }
+
+        public int getGapCount() {
+            return gapCount;
+        }
+
+        /**
+         * Gems after the last ledger entry, or -1 if there is none
+         */
+        public long getLedgerBalance() {
+            return ledgerBalance;
+        }
+
+        public long getCurrentBalance() {
+            return currentBalance;
+        }
+
+        public boolean isConsistent() {
+            return gapCount == 0 && (ledgerBalance < 0 || ledgerBalance == currentBalance);
+        }
+    }
+}
@@ -5,33 +5,67 @@ import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
 import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.ninja.islandwallet.IslandWalletPlugin;
 import com.ninja.islandwallet.data.DatabaseManager;
+import com.ninja.islandwallet.data.IslandDataPartition;
+import com.ninja.islandwallet.data.WriteBehindQueue;
 import com.ninja.islandwallet.models.IslandData;
+import com.ninja.islandwallet.models.LedgerEntry;
 import com.ninja.islandwallet.utils.MessageUtil;
+import com.ninja.islandwallet.utils.UuidUtil;
 import net.milkbowl.vault.economy.Economy;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 /**
  * FIXED: Enhanced wallet manager with better validation and error handling
+ * Only hot islands (ranked, or with an online member) are kept resident; the rest load on demand
+ * and are evicted again once idle or when the cache exceeds its configured size
  */
 public class WalletManager {
 
     private final IslandWalletPlugin plugin;
     private volatile DatabaseManager databaseManager;
-    private final Map<String, IslandData> cachedIslandData;
+    private final Map<UUID, IslandData> cachedIslandData; // Keyed by island UUID, no string hashing on lookups
+    private final WriteBehindQueue writeBehindQueue;
+
+    // Live leaderboard ordering, kept current by the cached islands themselves
+    private final RankIndex rankIndex = new RankIndex();
+
+    // Player UUID -> island, so hot paths (placeholders, deposits) skip the SuperiorSkyblock lookup
+    private final Map<UUID, IslandData> playerIslands = new ConcurrentHashMap<>();
+
+    // Gems held by stored islands that are not resident, so totals stay correct without loading them
+    private final AtomicLong coldGems = new AtomicLong();
+    private BukkitTask evictionTask;
+
+    // Islands being loaded in the background, so concurrent misses share one load
+    private final Map<UUID, CompletableFuture<IslandData>> loadingIslands = new ConcurrentHashMap<>();
+    private static final long ISLAND_LOAD_TIMEOUT_SECONDS = 10;
 
     public WalletManager(IslandWalletPlugin plugin, DatabaseManager databaseManager) {
         this.plugin = plugin;
         this.databaseManager = databaseManager;
         this.cachedIslandData = new ConcurrentHashMap<>();
-
-        // Load all island data into cache
-        loadAllIslandData();
+        this.writeBehindQueue = new WriteBehindQueue(plugin, () -> this.databaseManager);
+        this.writeBehindQueue.start();
+        startEvictionTask();
     }
 
     /**
@@ -44,64 +78,116 @@ public class WalletManager {
                 return;
             }
             this.databaseManager = databaseManager;
-            loadAllIslandData();
+            plugin.getStartupManager().start();
         }
     }
 
     /**
-     * FIXED: Load all island data with better error handling
+     * Load stored islands into the cache, reading several storage partitions in parallel
+     * Islands stream straight into the cache and rank index - no intermediate map of the whole dataset.
+     * Driven by the {@link StartupManager}, which reports progress and readiness
+     *
+     * @param onIslandRead called once for every island read from storage
      */
-    private void loadAllIslandData() {
-        CompletableFuture.runAsync(() -> {
-            try {
-                Map<String, IslandData> loadedData = databaseManager.loadAllIslandData();
-
-                if (loadedData == null) {
-                    plugin.getLogger().warning("Database returned null for island data!");
+    public CompletableFuture<Void> loadAllIslandData(int partitions, Executor executor, Runnable onIslandRead) {
+        DatabaseManager database = databaseManager;
+
+        // With a bounded cache only ranked islands stay resident; the rest load on demand
+        boolean bounded = plugin.getConfigManager().isIslandCacheBounded();
+        AtomicLong loaded = new AtomicLong();
+
+        cachedIslandData.clear();
+        coldGems.set(0);
+        rankIndex.rebuild(List.of());
+
+        // Planned once up front, so islands stored meanwhile cannot fall between partitions
+        List<IslandDataPartition> plan = database.partitionIslandData(partitions);
+
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[plan.size()];
+        for (int i = 0; i < plan.size(); i++) {
+            IslandDataPartition partition = plan.get(i);
+            tasks[i] = CompletableFuture.runAsync(() -> database.forEachIslandData(partition, data -> {
+                onIslandRead.run();
+                if (!isLoadable(data)) {
                     return;
                 }
+                loaded.incrementAndGet();
 
-                // FIXED: Enhanced validation of loaded data
-                loadedData.entrySet().removeIf(entry -> {
-                    if (entry.getKey() == null || entry.getValue() == null) {
-                        plugin.getLogger().warning("Removing null entry from loaded data");
-                        return true;
-                    }
+                if (bounded && data.getPayoutPoints() == 0) {
+                    coldGems.addAndGet(data.getGems());
+                    return;
+                }
 
-                    IslandData data = entry.getValue();
-                    if (!data.isValid()) {
-                        plugin.getLogger().warning("Removing invalid island data: " + entry.getKey() + " - " + data.toString());
-                        return true;
-                    }
+                if (cachedIslandData.putIfAbsent(data.getIslandUuid(), data) == null) {
+                    rankIndex.track(data);
+                } else {
+                    // Already loaded on demand, which took its gems off the cold total
+                    coldGems.addAndGet(data.getGems());
+                }
+            }), executor);
+        }
 
-                    // FIXED: Validate data integrity
-                    if (data.getGems() < 0 || data.getPayoutPoints() < 0) {
-                        plugin.getLogger().warning("Removing island with negative values: " + entry.getKey());
-                        return true;
-                    }
+        return CompletableFuture.allOf(tasks).thenRun(() ->
+                plugin.getLogger().info("Loaded " + loaded.get() + " island wallet records (" +
+                        cachedIslandData.size() + " resident, " + plan.size() + " partitions)"));
+    }
 
-                    return false;
-                });
+    /**
+     * FIXED: Enhanced validation of loaded data
+     */
+    private boolean isLoadable(IslandData data) {
+        if (data == null) {
+            plugin.getLogger().warning("Skipping null entry from loaded data");
+            return false;
+        }
 
-                cachedIslandData.clear();
-                cachedIslandData.putAll(loadedData);
+        if (!data.isValid()) {
+            plugin.getLogger().warning("Skipping invalid island data: " + data.getIslandId() + " - " + data.toString());
+            return false;
+        }
 
-                plugin.getLogger().info("Loaded " + cachedIslandData.size() + " island wallet records");
+        // FIXED: Validate data integrity
+        if (data.getGems() < 0 || data.getPayoutPoints() < 0) {
+            plugin.getLogger().warning("Skipping island with negative values: " + data.getIslandId());
+            return false;
+        }
 
-            } catch (Exception e) {
-                plugin.getLogger().log(Level.SEVERE, "Failed to load island data", e);
-            }
-        });
+        return true;
     }
 
     /**
      * FIXED: Get island data for a player with enhanced validation
+     * Served from the player index when possible; only a miss asks SuperiorSkyblock
      */
     public IslandData getPlayerIslandData(Player player) {
         if (player == null || !player.isOnline()) {
             return null;
         }
 
+        IslandData indexed = playerIslands.get(player.getUniqueId());
+        if (indexed != null && cachedIslandData.get(indexed.getIslandUuid()) == indexed) {
+            indexed.touch();
+            return indexed;
+        }
+
+        UUID islandUuid = resolveIslandUuid(player);
+        if (islandUuid == null) {
+            return null;
+        }
+
+        IslandData islandData = getIslandData(islandUuid);
+        if (islandData != null) {
+            playerIslands.put(player.getUniqueId(), islandData);
+        } else {
+            indexWhenLoaded(player.getUniqueId(), islandUuid); // Still loading - served from the index next time
+        }
+        return islandData;
+    }
+
+    /**
+     * Ask SuperiorSkyblock which island a player belongs to (main thread)
+     */
+    private UUID resolveIslandUuid(Player player) {
         try {
             SuperiorPlayer superiorPlayer = SuperiorSkyblockAPI.getPlayer(player);
             if (superiorPlayer == null) {
@@ -119,8 +205,7 @@ public class WalletManager {
                 return null;
             }
 
-            String islandId = island.getUniqueId().toString();
-            return getIslandData(islandId);
+            return island.getUniqueId();
 
         } catch (Exception e) {
             plugin.getLogger().log(Level.WARNING, "Error getting island data for player: " + player.getName(), e);
@@ -128,57 +213,224 @@ public class WalletManager {
         }
     }
 
+    /**
+     * Load and index a joining player's island without blocking the main thread
+     * The island is resolved through SuperiorSkyblock here; a cold island is then loaded asynchronously
+     */
+    public void preloadPlayerIsland(Player player) {
+        if (player == null || !player.isOnline()) {
+            return;
+        }
+
+        UUID islandUuid = resolveIslandUuid(player);
+        if (islandUuid == null) {
+            return;
+        }
+
+        indexWhenLoaded(player.getUniqueId(), islandUuid);
+    }
+
+    private void indexWhenLoaded(UUID playerId, UUID islandUuid) {
+        loadIslandDataAsync(islandUuid).thenAccept(islandData -> {
+            // Skip players who left while the island was loading
+            if (islandData != null && Bukkit.getPlayer(playerId) != null) {
+                indexPlayer(playerId, islandUuid);
+            }
+        });
+    }
+
+    /**
+     * Point a player at an island that is already cached
+     * If the island is not cached yet, the entry is dropped and resolved on the next lookup
+     */
+    public void indexPlayer(UUID playerId, UUID islandUuid) {
+        if (playerId == null) {
+            return;
+        }
+
+        IslandData islandData = islandUuid != null ? cachedIslandData.get(islandUuid) : null;
+        if (islandData != null) {
+            playerIslands.put(playerId, islandData);
+        } else {
+            playerIslands.remove(playerId);
+        }
+    }
+
+    /**
+     * Forget a player's island, e.g. after they left it or went offline
+     */
+    public void unindexPlayer(UUID playerId) {
+        if (playerId != null) {
+            playerIslands.remove(playerId);
+        }
+    }
+
+    /**
+     * Forget every player pointing at an island (disband or removal)
+     */
+    public void unindexIsland(UUID islandUuid) {
+        if (islandUuid != null) {
+            playerIslands.values().removeIf(islandData -> islandUuid.equals(islandData.getIslandUuid()));
+        }
+    }
+
+    /**
+     * Resolve and index the islands of all online players
+     * Must run on the main thread, since it calls into SuperiorSkyblock
+     */
+    public void warmPlayerIndex() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            preloadPlayerIsland(player);
+        }
+    }
+
     /**
      * FIXED: Get island data by ID with enhanced caching and validation
      */
     public IslandData getIslandData(String islandId) {
-        if (islandId == null || islandId.trim().isEmpty()) {
+        UUID islandUuid = UuidUtil.islandKey(islandId);
+        if (islandUuid == null) {
             plugin.getLogger().warning("Attempted to get island data with null/empty ID");
             return null;
         }
 
-        String cleanIslandId = islandId.trim();
-        IslandData cachedData = cachedIslandData.get(cleanIslandId);
+        return getIslandData(islandUuid);
+    }
 
-        if (cachedData == null) {
-            // Try to load from database
-            try {
-                cachedData = databaseManager.loadIslandData(cleanIslandId);
-            } catch (Exception e) {
-                plugin.getLogger().log(Level.WARNING, "Error loading island data: " + cleanIslandId, e);
-                return null;
-            }
+    /**
+     * Get island data by island UUID - the cache hit is a single map lookup
+     * On the main thread a miss never waits on storage: it starts a background load and returns null,
+     * and the island is served from the cache once loaded. Other threads wait for the load
+     */
+    public IslandData getIslandData(UUID islandUuid) {
+        if (islandUuid == null) {
+            plugin.getLogger().warning("Attempted to get island data with null ID");
+            return null;
+        }
 
-            if (cachedData == null) {
-                // Create new island data
-                cachedData = createNewIslandData(cleanIslandId);
-            }
+        IslandData cachedData = cachedIslandData.get(islandUuid);
+        if (cachedData != null) {
+            cachedData.touch();
+            return cachedData;
+        }
 
-            // FIXED: Enhanced validation before caching
-            if (cachedData != null && validateIslandData(cachedData)) {
-                cachedIslandData.put(cleanIslandId, cachedData);
-            } else {
-                plugin.getLogger().warning("Failed to validate island data for: " + cleanIslandId);
-                return null;
-            }
+        CompletableFuture<IslandData> loading = loadIslandDataAsync(islandUuid);
+        if (Bukkit.isPrimaryThread()) {
+            return null;
         }
 
-        return cachedData;
+        try {
+            return loading.get(ISLAND_LOAD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            plugin.getLogger().log(Level.WARNING, "Timed out loading island data: " + islandUuid, e);
+            return null;
+        }
     }
 
     /**
-     * FIXED: Create new island data with enhanced validation
+     * Load an island by ID into the cache in the background
+     *
+     * @return completes with the island, or null if the ID is invalid or the island does not exist
+     */
+    public CompletableFuture<IslandData> loadIslandDataAsync(String islandId) {
+        UUID islandUuid = UuidUtil.islandKey(islandId);
+        if (islandUuid == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return loadIslandDataAsync(islandUuid);
+    }
+
+    /**
+     * Load an island into the cache in the background
+     * The stored row is read off the main thread; an island without one is built from SuperiorSkyblock
+     * on the main thread. Concurrent requests for the same island share one load
+     *
+     * @return completes with the island, or null if it could not be loaded or created
+     */
+    public CompletableFuture<IslandData> loadIslandDataAsync(UUID islandUuid) {
+        IslandData cachedData = cachedIslandData.get(islandUuid);
+        if (cachedData != null) {
+            cachedData.touch();
+            return CompletableFuture.completedFuture(cachedData);
+        }
+
+        CompletableFuture<IslandData> result = new CompletableFuture<>();
+        CompletableFuture<IslandData> loading = loadingIslands.putIfAbsent(islandUuid, result);
+        if (loading != null) {
+            return loading;
+        }
+
+        String islandId = islandUuid.toString();
+        CompletableFuture.supplyAsync(() -> databaseManager.loadIslandData(islandId))
+                .thenCompose(stored -> stored != null
+                        ? CompletableFuture.completedFuture(cacheLoadedIsland(stored, true))
+                        : supplyOnMainThread(() -> {
+                            IslandData created = createNewIslandData(islandUuid);
+                            return created != null ? cacheLoadedIsland(created, false) : null;
+                        }))
+                .whenComplete((islandData, error) -> {
+                    loadingIslands.remove(islandUuid, result);
+                    if (error != null) {
+                        plugin.getLogger().log(Level.WARNING, "Error loading island data: " + islandId, error);
+                        result.complete(null);
+                    } else {
+                        result.complete(islandData);
+                    }
+                });
+        return result;
+    }
+
+    /**
+     * Put a freshly loaded or created island into the cache and rank index
+     *
+     * @return the cached copy - an existing one if another load won the race
      */
-    private IslandData createNewIslandData(String islandId) {
+    private IslandData cacheLoadedIsland(IslandData islandData, boolean fromStorage) {
+        // FIXED: Enhanced validation before caching
+        if (!validateIslandData(islandData)) {
+            plugin.getLogger().warning("Failed to validate island data for: " + islandData.getIslandId());
+            return null;
+        }
+
+        IslandData existing = cachedIslandData.putIfAbsent(islandData.getIslandUuid(), islandData);
+        if (existing != null) {
+            existing.touch();
+            return existing;
+        }
+
+        if (fromStorage) {
+            coldGems.addAndGet(-islandData.getGems());
+        }
+        rankIndex.track(islandData);
+        islandData.touch();
+        return islandData;
+    }
+
+    private <T> CompletableFuture<T> supplyOnMainThread(Supplier<T> supplier) {
+        CompletableFuture<T> future = new CompletableFuture<>();
         try {
-            java.util.UUID islandUUID;
-            try {
-                islandUUID = java.util.UUID.fromString(islandId);
-            } catch (IllegalArgumentException e) {
-                plugin.getLogger().warning("Invalid island UUID format: " + islandId);
-                return null;
-            }
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                try {
+                    future.complete(supplier.get());
+                } catch (Exception e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (Exception e) {
+            future.completeExceptionally(e); // Plugin disabled
+        }
+        return future;
+    }
 
+    /**
+     * FIXED: Create new island data with enhanced validation
+     */
+    private IslandData createNewIslandData(UUID islandUUID) {
+        String islandId = islandUUID.toString();
+        try {
             Island island = SuperiorSkyblockAPI.getIslandByUUID(islandUUID);
             if (island == null) {
                 plugin.getLogger().warning("SuperiorSkyblock island not found for ID: " + islandId);
@@ -190,7 +442,7 @@ public class WalletManager {
                 islandName = "Island-" + islandId.substring(0, 8);
             }
 
-            IslandData islandData = new IslandData(islandId, MessageUtil.sanitizeString(islandName));
+            IslandData islandData = new IslandData(islandUUID, MessageUtil.sanitizeString(islandName));
 
             // FIXED: Set leader safely with validation
             SuperiorPlayer leader = island.getOwner();
@@ -261,14 +513,15 @@ public class WalletManager {
             }
 
             // Add gems to island wallet (thread-safe)
-            islandData.addGems(gems);
+            long balance = islandData.addGems(gems);
+            recordLedger(islandData, player.getUniqueId(), LedgerEntry.Kind.DEPOSIT, gems, balance);
 
             // Save to database
             saveIslandDataAsync(islandData);
 
             // Send success message
-            String message = plugin.getConfigManager().getMessage("gems-deposited")
-                    .replace("{gems}", MessageUtil.formatNumber(gems));
+            String message = plugin.getConfigManager().formatMessage("gems-deposited",
+                    "{gems}", MessageUtil.formatNumber(gems));
             player.sendMessage(plugin.getConfigManager().getPrefix() + message);
 
             if (plugin.getConfigManager().isLogTransactions()) {
@@ -329,8 +582,7 @@ public class WalletManager {
             // Check if player has enough money
             double playerBalance = economy.getBalance(player);
             if (!economy.has(player, cost)) {
-                String message = MessageUtil.replacePlaceholders(
-                        plugin.getConfigManager().getMessage("purchase-insufficient-money"),
+                String message = plugin.getConfigManager().formatMessage("purchase-insufficient-money",
                         "{required}", MessageUtil.formatMoney(cost),
                         "{required_formatted}", MessageUtil.formatMoney(cost),
                         "{current}", MessageUtil.formatMoney(playerBalance),
@@ -356,14 +608,14 @@ public class WalletManager {
             }
 
             // Add payout points (separate from gems)
-            islandData.addPayoutPoints(points);
+            long balance = islandData.addPayoutPoints(points);
+            recordLedger(islandData, player.getUniqueId(), LedgerEntry.Kind.POINT_PURCHASE, points, balance);
 
             // Save to database
             saveIslandDataAsync(islandData);
 
             // Send success message with proper formatting
-            String message = MessageUtil.replacePlaceholders(
-                    plugin.getConfigManager().getMessage("purchase-success"),
+            String message = plugin.getConfigManager().formatMessage("purchase-success",
                     "{points}", String.valueOf(points),
                     "{cost}", MessageUtil.formatMoney(cost),
                     "{cost_formatted}", MessageUtil.formatMoney(cost));
@@ -413,14 +665,15 @@ public class WalletManager {
             }
 
             // Add gems to island wallet
-            islandData.addGems(gems);
+            long balance = islandData.addGems(gems);
+            recordLedger(islandData, null, LedgerEntry.Kind.ADMIN_DEPOSIT, gems, balance);
 
             // Save to database
             saveIslandDataAsync(islandData);
 
             // Notify player
-            String message = plugin.getConfigManager().getMessage("gems-deposited")
-                    .replace("{gems}", MessageUtil.formatNumber(gems));
+            String message = plugin.getConfigManager().formatMessage("gems-deposited",
+                    "{gems}", MessageUtil.formatNumber(gems));
             player.sendMessage(plugin.getConfigManager().getPrefix() + message);
 
             return true;
@@ -450,16 +703,18 @@ public class WalletManager {
 
         try {
             // Try to withdraw gems
-            if (!islandData.withdrawGems(gems)) {
+            long balance = islandData.tryWithdrawGems(gems);
+            if (balance < 0) {
                 return false; // Insufficient gems
             }
+            recordLedger(islandData, null, LedgerEntry.Kind.ADMIN_WITHDRAW, -gems, balance);
 
             // Save to database
             saveIslandDataAsync(islandData);
 
             // Notify player
-            String message = plugin.getConfigManager().getMessage("gems-withdrawn")
-                    .replace("{gems}", MessageUtil.formatNumber(gems));
+            String message = plugin.getConfigManager().formatMessage("gems-withdrawn",
+                    "{gems}", MessageUtil.formatNumber(gems));
             player.sendMessage(plugin.getConfigManager().getPrefix() + message);
 
             return true;
@@ -470,8 +725,51 @@ public class WalletManager {
         }
     }
 
+    /**
+     * Take back gems deposited from a personal balance that could not be charged
+     *
+     * The island is loaded in the background if it is not resident
+     *
+     * @return completes with the gems actually removed (never more than the island holds)
+     */
+    public CompletableFuture<Long> reverseGemDeposit(UUID islandUuid, long gems) {
+        if (islandUuid == null || gems <= 0) {
+            return CompletableFuture.completedFuture(0L);
+        }
+
+        return loadIslandDataAsync(islandUuid).thenApply(islandData ->
+                islandData != null ? reverseGemDeposit(islandData, gems) : 0L);
+    }
+
+    private long reverseGemDeposit(IslandData islandData, long gems) {
+
+        long removed = Math.min(gems, islandData.getGems());
+        long balance = removed > 0 ? islandData.tryWithdrawGems(removed) : 0;
+        while (removed > 0 && balance < 0) {
+            removed = Math.min(gems, islandData.getGems()); // Spent concurrently - retry with what is left
+            balance = removed > 0 ? islandData.tryWithdrawGems(removed) : 0;
+        }
+
+        if (removed > 0) {
+            recordLedger(islandData, null, LedgerEntry.Kind.TRANSFER_REVERSAL, -removed, balance);
+            saveIslandDataAsync(islandData);
+        }
+        return removed;
+    }
+
+    /**
+     * Queue a movement on the transaction ledger
+     */
+    private void recordLedger(IslandData islandData, UUID actor, LedgerEntry.Kind kind, long delta, long balance) {
+        TransactionLedger ledger = plugin.getTransactionLedger();
+        if (ledger != null) {
+            ledger.record(islandData.getIslandUuid(), actor, kind, delta, balance);
+        }
+    }
+
     /**
      * FIXED: Save island data with validation
+     * Saves are write-behind: the island is marked dirty and persisted with the next batch flush
      */
     public void saveIslandDataAsync(IslandData islandData) {
         if (islandData == null) {
@@ -484,13 +782,149 @@ public class WalletManager {
             return;
         }
 
-        CompletableFuture.runAsync(() -> {
-            try {
-                databaseManager.saveIslandData(islandData);
-            } catch (Exception e) {
-                plugin.getLogger().log(Level.SEVERE, "Failed to save island data for: " + islandData.getIslandId(), e);
+        writeBehindQueue.markDirty(islandData);
+    }
+
+    /**
+     * Write all pending island changes to storage now
+     */
+    public void flushPendingWrites() {
+        writeBehindQueue.flush();
+    }
+
+    /**
+     * Stop background persistence and flush everything that is still pending
+     */
+    public void shutdown() {
+        stopEvictionTask();
+        writeBehindQueue.shutdown();
+    }
+
+    /**
+     * Reschedule the write-behind flush and eviction tasks with the current configuration
+     */
+    public void reloadPersistenceSettings() {
+        writeBehindQueue.start();
+        startEvictionTask();
+    }
+
+    private void startEvictionTask() {
+        stopEvictionTask();
+
+        if (plugin.getConfigManager().isIslandCacheBounded()) {
+            // Every minute, off the main thread since eviction flushes pending saves first
+            evictionTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::evictInactiveIslands, 1200L, 1200L);
+        }
+    }
+
+    private void stopEvictionTask() {
+        if (evictionTask != null) {
+            evictionTask.cancel();
+            evictionTask = null;
+        }
+    }
+
+    /**
+     * Evict cold islands that are idle, then the least recently used ones while the cache is over its limit
+     * Ranked islands and islands with an online member are never evicted. Pending saves are flushed
+     * first, and no other flush can run until eviction is done, so only fully persisted islands leave memory
+     *
+     * @return number of islands evicted
+     */
+    public int evictInactiveIslands() {
+        int maxResident = plugin.getConfigManager().getIslandCacheMaxResident();
+        long idleMillis = plugin.getConfigManager().getIslandCacheIdleMinutes() * 60_000L;
+        int[] evicted = {0};
+
+        writeBehindQueue.flushAndRun(() -> {
+            Set<UUID> onlineIslands = new HashSet<>();
+            for (IslandData islandData : playerIslands.values()) {
+                onlineIslands.add(islandData.getIslandUuid());
+            }
+
+            List<IslandData> candidates = new ArrayList<>();
+            for (IslandData islandData : cachedIslandData.values()) {
+                if (islandData.getPayoutPoints() == 0 && !islandData.isDirty() &&
+                        !onlineIslands.contains(islandData.getIslandUuid())) {
+                    candidates.add(islandData);
+                }
+            }
+            candidates.sort(Comparator.comparingLong(IslandData::getLastAccess)); // Least recently used first
+
+            long now = System.currentTimeMillis();
+            int overLimit = maxResident > 0 ? cachedIslandData.size() - maxResident : 0;
+
+            for (IslandData islandData : candidates) {
+                boolean idle = idleMillis > 0 && now - islandData.getLastAccess() >= idleMillis;
+                if (!idle && overLimit <= 0) {
+                    break; // The rest were used more recently
+                }
+
+                if (evict(islandData)) {
+                    evicted[0]++;
+                    overLimit--;
+                }
             }
         });
+
+        if (evicted[0] > 0 && plugin.getConfigManager().isDebugEnabled()) {
+            plugin.getLogger().info("Evicted " + evicted[0] + " inactive islands (" + cachedIslandData.size() + " resident)");
+        }
+
+        return evicted[0];
+    }
+
+    /**
+     * Drop one island from memory unless it changed while being evicted
+     * The island stays marked as evicted, so a change made through a reference held elsewhere
+     * puts it back instead of being lost
+     */
+    private boolean evict(IslandData islandData) {
+        UUID islandUuid = islandData.getIslandUuid();
+        if (!cachedIslandData.remove(islandUuid, islandData)) {
+            return false;
+        }
+        rankIndex.untrack(islandUuid);
+
+        long gems = islandData.getGems();
+        coldGems.addAndGet(gems);
+        islandData.markEvicted(changed -> restoreEvicted(changed, gems));
+
+        // Touched by a concurrent deposit or purchase - keep it resident
+        if (islandData.isDirty() || islandData.getPayoutPoints() > 0) {
+            if (islandData.clearEvicted()) {
+                restoreEvicted(islandData, gems);
+            }
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Bring an evicted island back after it changed
+     * If it was reloaded from storage meanwhile, the change is carried over to the resident copy
+     */
+    private void restoreEvicted(IslandData islandData, long evictedGems) {
+        UUID islandUuid = islandData.getIslandUuid();
+        IslandData resident = cachedIslandData.putIfAbsent(islandUuid, islandData);
+        if (resident == null) {
+            coldGems.addAndGet(-evictedGems);
+            rankIndex.track(islandData);
+            return;
+        }
+
+        // The reload already took the stored gems out of the cold total
+        long gemChange = islandData.getGems() - evictedGems;
+        if (gemChange > 0) {
+            resident.addGems(gemChange);
+        } else if (gemChange < 0 && resident.tryWithdrawGems(-gemChange) < 0) {
+            plugin.getLogger().warning("Could not carry " + gemChange + " gems over to reloaded island " + islandUuid);
+        }
+        if (islandData.getPayoutPoints() > 0) {
+            resident.addPayoutPoints(islandData.getPayoutPoints()); // Evicted islands had no points
+        }
+        saveIslandDataAsync(resident);
     }
 
     /**
@@ -504,9 +938,9 @@ public class WalletManager {
 
         CompletableFuture.runAsync(() -> {
             try {
-                java.util.UUID islandUUID;
+                UUID islandUUID;
                 try {
-                    islandUUID = java.util.UUID.fromString(islandId);
+                    islandUUID = UUID.fromString(islandId);
                 } catch (IllegalArgumentException e) {
                     plugin.getLogger().warning("Invalid island UUID format for update: " + islandId);
                     return;
@@ -516,13 +950,22 @@ public class WalletManager {
 
                 if (island == null) {
                     // Island was deleted, remove from database
+                    writeBehindQueue.discard(islandUUID);
+                    if (cachedIslandData.remove(islandUUID) == null) {
+                        // Not resident - its gems are part of the cold total
+                        IslandData stored = databaseManager.loadIslandData(islandId);
+                        if (stored != null) {
+                            coldGems.addAndGet(-stored.getGems());
+                        }
+                    }
                     databaseManager.deleteIslandData(islandId);
-                    cachedIslandData.remove(islandId);
+                    rankIndex.untrack(islandUUID);
+                    unindexIsland(islandUUID);
                     plugin.getLogger().info("Removed deleted island data: " + islandId);
                     return;
                 }
 
-                IslandData islandData = getIslandData(islandId);
+                IslandData islandData = getIslandData(islandUUID);
                 if (islandData == null) {
                     plugin.getLogger().warning("Could not get island data for update: " + islandId);
                     return;
@@ -541,27 +984,28 @@ public class WalletManager {
                     islandData.setLeaderUUID(leader.getUniqueId());
                 }
 
-                // Update members with sanitization
-                islandData.getMembers().clear();
+                // Update members with sanitization - only names that actually changed are persisted
                 try {
+                    List<String> currentMembers = new ArrayList<>();
                     island.getAllPlayersInside().forEach(superiorPlayer -> {
                         if (superiorPlayer != null && !superiorPlayer.equals(leader)) {
                             String memberName = superiorPlayer.getName();
                             if (memberName != null && !memberName.trim().isEmpty()) {
                                 String sanitizedName = MessageUtil.sanitizeString(memberName);
                                 if (!sanitizedName.isEmpty()) {
-                                    islandData.addMember(sanitizedName);
+                                    currentMembers.add(sanitizedName);
                                 }
                             }
                         }
                     });
+                    islandData.syncMembers(currentMembers);
                 } catch (Exception e) {
                     plugin.getLogger().log(Level.WARNING, "Error updating island members for: " + islandId, e);
                 }
 
                 // Save updated data
                 if (validateIslandData(islandData)) {
-                    databaseManager.saveIslandData(islandData);
+                    writeBehindQueue.markDirty(islandData);
                 } else {
                     plugin.getLogger().warning("Island data validation failed after update: " + islandId);
                 }
@@ -590,24 +1034,46 @@ public class WalletManager {
     }
 
     /**
-     * Get all cached island data (defensive copy)
+     * Live payout point ranking of the cached islands
      */
-    public Map<String, IslandData> getAllIslandData() {
+    public RankIndex getRankIndex() {
+        return rankIndex;
+    }
+
+    /**
+     * Get all resident island data (defensive copy)
+     * Every ranked island is resident; cold islands without points may be missing
+     */
+    public Map<UUID, IslandData> getAllIslandData() {
         return new ConcurrentHashMap<>(cachedIslandData);
     }
 
+    /**
+     * Total gems across all stored islands, resident or not
+     */
+    public long getTotalGems() {
+        long total = coldGems.get();
+        for (IslandData islandData : cachedIslandData.values()) {
+            total += islandData.getGems();
+        }
+        return total;
+    }
+
     /**
      * Reset all payout points (separate from gems)
      */
     public void resetAllPayoutPoints() {
         CompletableFuture.runAsync(() -> {
             try {
+                // Reset in cache first so a concurrent flush cannot write old points back
+                cachedIslandData.values().forEach(IslandData::resetPayoutPoints);
+
+                // Wait for any in-flight batch before resetting storage
+                writeBehindQueue.flush();
+
                 // Reset in database
                 databaseManager.resetAllPayoutPoints();
 
-                // Reset in cache
-                cachedIslandData.values().forEach(IslandData::resetPayoutPoints);
-
                 plugin.getLogger().info("Reset all payout points for new cycle (gems preserved)");
 
             } catch (Exception e) {
@@ -660,7 +1126,7 @@ public class WalletManager {
                 plugin.getLogger().info("Creating data backup...");
                 
                 // For now, just save all current data
-                Map<String, IslandData> allData = getAllIslandData();
+                Map<UUID, IslandData> allData = getAllIslandData();
                 plugin.getLogger().info("Backup created with " + allData.size() + " island records");
                 
             } catch (Exception e) {
@@ -693,12 +1159,15 @@ public class WalletManager {
                 plugin.getLogger().info("Cleaning up invalid data...");
                 
                 int removedCount = 0;
-                Map<String, IslandData> allData = new ConcurrentHashMap<>(cachedIslandData);
+                Map<UUID, IslandData> allData = new ConcurrentHashMap<>(cachedIslandData);
                 
-                for (Map.Entry<String, IslandData> entry : allData.entrySet()) {
+                for (Map.Entry<UUID, IslandData> entry : allData.entrySet()) {
                     if (!validateIslandData(entry.getValue())) {
                         cachedIslandData.remove(entry.getKey());
-                        databaseManager.deleteIslandData(entry.getKey());
+                        rankIndex.untrack(entry.getKey());
+                        unindexIsland(entry.getKey());
+                        writeBehindQueue.discard(entry.getKey());
+                        databaseManager.deleteIslandData(entry.getValue().getIslandId());
                         removedCount++;
                     }
                 }
@@ -0,0 +1,57 @@
+package com.ninja.islandwallet.models;
+
+/**
+ * A pending save: island data plus the dirty flags captured when it was queued for writing
+ * Member changes are drained together with the flags when members are dirty
+ */
+public class IslandChange {
+
+    private final IslandData islandData;
+    private final int dirtyFlags;
+    private final MemberChanges memberChanges;
+
+    public IslandChange(IslandData islandData, int dirtyFlags) {
+        this.islandData = islandData;
+        this.dirtyFlags = dirtyFlags;
+        this.memberChanges = (dirtyFlags & IslandData.DIRTY_MEMBERS) != 0 ? islandData.drainMemberChanges() : null;
+    }
+
+    public IslandData getIslandData() {
+        return islandData;
+    }
+
+    public int getDirtyFlags() {
+        return dirtyFlags;
+    }
+
+    /**
+     * Member changes to persist, or null if members did not change
+     */
+    public MemberChanges getMemberChanges() {
+        return memberChanges;
+    }
+
+    /**
+     * Put the dirty flags and member changes back after a failed save
+     */
+    public void restore() {
+        islandData.restoreDirtyFlags(dirtyFlags);
+        if (memberChanges != null) {
+            islandData.restoreMemberChanges();
+        }
+    }
+
+    /**
+     * Check if any of the given dirty flags are set
+     */
+    public boolean has(int flags) {
+        return (dirtyFlags & flags) != 0;
+    }
+
+    /**
+     * True if the name, leader or admin columns changed
+     */
+    public boolean hasDetailChanges() {
+        return has(IslandData.DIRTY_NAME | IslandData.DIRTY_LEADER);
+    }
+}
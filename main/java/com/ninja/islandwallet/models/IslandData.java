@@ -1,10 +1,19 @@
 package com.ninja.islandwallet.models;
 
+import com.ninja.islandwallet.utils.UuidUtil;
+
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 
 /**
  * CRITICAL: Represents island wallet data with COMPLETELY SEPARATED Gems and payout points
@@ -14,7 +23,16 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  */
 public class IslandData {
 
+    // Dirty flags: which parts of the island changed since it was last persisted
+    public static final int DIRTY_GEMS = 1;
+    public static final int DIRTY_PAYOUT_POINTS = 1 << 1;
+    public static final int DIRTY_NAME = 1 << 2;
+    public static final int DIRTY_LEADER = 1 << 3; // leader, admin and leader UUID
+    public static final int DIRTY_MEMBERS = 1 << 4;
+    public static final int DIRTY_ALL = DIRTY_GEMS | DIRTY_PAYOUT_POINTS | DIRTY_NAME | DIRTY_LEADER | DIRTY_MEMBERS;
+
     private final String islandId;
+    private final UUID islandUuid; // Compact key used by caches, indexes and SQLite
     private volatile String islandName;
     private volatile String leader;
     private volatile String admin;
@@ -29,6 +47,24 @@ public class IslandData {
     // Thread-safety for member operations
     private final ReentrantReadWriteLock membersLock = new ReentrantReadWriteLock();
 
+    // Member changes since the last save, guarded by membersLock
+    private final Set<String> addedMembers = new LinkedHashSet<>();
+    private final Set<String> removedMembers = new LinkedHashSet<>();
+    private boolean membersReplaced = true;
+
+    // Change tracking: new islands start fully dirty until loaded from or written to storage
+    private final AtomicInteger dirtyFlags = new AtomicInteger(DIRTY_ALL);
+    private final AtomicLong version = new AtomicLong(0);
+
+    // Keeps the live leaderboard index in sync with point changes
+    private volatile PayoutPointsListener payoutPointsListener;
+
+    // Last time the island was looked up, used to evict inactive islands from the cache
+    private volatile long lastAccess = System.currentTimeMillis();
+
+    // Set while the island is evicted; the first change made afterwards hands it back to the cache
+    private final AtomicReference<Consumer<IslandData>> evictionListener = new AtomicReference<>();
+
     public IslandData(String islandId, String islandName) {
         if (islandId == null || islandId.trim().isEmpty()) {
             throw new IllegalArgumentException("Island ID cannot be null or empty");
@@ -38,6 +74,23 @@ public class IslandData {
         }
 
         this.islandId = islandId.trim();
+        this.islandUuid = UuidUtil.islandKey(this.islandId);
+        this.islandName = islandName.trim();
+        this.members = new ArrayList<>();
+        this.gems = new AtomicLong(0);
+        this.payoutPoints = new AtomicLong(0);
+    }
+
+    public IslandData(UUID islandUuid, String islandName) {
+        if (islandUuid == null) {
+            throw new IllegalArgumentException("Island ID cannot be null");
+        }
+        if (islandName == null || islandName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Island name cannot be null or empty");
+        }
+
+        this.islandId = islandUuid.toString();
+        this.islandUuid = islandUuid;
         this.islandName = islandName.trim();
         this.members = new ArrayList<>();
         this.gems = new AtomicLong(0);
@@ -49,6 +102,10 @@ public class IslandData {
         return islandId;
     }
 
+    public UUID getIslandUuid() {
+        return islandUuid;
+    }
+
     public String getIslandName() {
         return islandName != null ? islandName : "Unknown";
     }
@@ -93,15 +150,27 @@ public class IslandData {
         if (islandName == null || islandName.trim().isEmpty()) {
             throw new IllegalArgumentException("Island name cannot be null or empty");
         }
-        this.islandName = islandName.trim();
+        String cleanName = islandName.trim();
+        if (!cleanName.equals(this.islandName)) {
+            this.islandName = cleanName;
+            markDirty(DIRTY_NAME);
+        }
     }
 
     public void setLeader(String leader) {
-        this.leader = leader != null ? leader.trim() : null;
+        String cleanLeader = leader != null ? leader.trim() : null;
+        if (!Objects.equals(cleanLeader, this.leader)) {
+            this.leader = cleanLeader;
+            markDirty(DIRTY_LEADER);
+        }
     }
 
     public void setAdmin(String admin) {
-        this.admin = admin != null ? admin.trim() : null;
+        String cleanAdmin = admin != null ? admin.trim() : null;
+        if (!Objects.equals(cleanAdmin, this.admin)) {
+            this.admin = cleanAdmin;
+            markDirty(DIRTY_LEADER);
+        }
     }
 
     public void setMembers(List<String> members) {
@@ -117,9 +186,14 @@ public class IslandData {
                     this.members.add(member.trim());
                 }
             }
+            // The whole list changed - the next save rewrites it instead of applying a delta
+            membersReplaced = true;
+            addedMembers.clear();
+            removedMembers.clear();
         } finally {
             membersLock.writeLock().unlock();
         }
+        markDirty(DIRTY_MEMBERS);
     }
 
     /**
@@ -129,7 +203,9 @@ public class IslandData {
         if (gems < 0) {
             throw new IllegalArgumentException("Gems cannot be negative");
         }
-        this.gems.set(gems);
+        if (this.gems.getAndSet(gems) != gems) {
+            markDirty(DIRTY_GEMS);
+        }
     }
 
     /**
@@ -139,11 +215,17 @@ public class IslandData {
         if (payoutPoints < 0) {
             throw new IllegalArgumentException("Payout points cannot be negative");
         }
-        this.payoutPoints.set(payoutPoints);
+        if (this.payoutPoints.getAndSet(payoutPoints) != payoutPoints) {
+            markDirty(DIRTY_PAYOUT_POINTS);
+            notifyPayoutPointsChanged();
+        }
     }
 
     public void setLeaderUUID(UUID leaderUUID) {
-        this.leaderUUID = leaderUUID;
+        if (!Objects.equals(leaderUUID, this.leaderUUID)) {
+            this.leaderUUID = leaderUUID;
+            markDirty(DIRTY_LEADER);
+        }
     }
 
     // Thread-safe member operations
@@ -153,14 +235,21 @@ public class IslandData {
         }
 
         String cleanMember = member.trim();
+        boolean added = false;
         membersLock.writeLock().lock();
         try {
             if (!members.contains(cleanMember)) {
                 members.add(cleanMember);
+                recordMemberAdded(cleanMember);
+                added = true;
             }
         } finally {
             membersLock.writeLock().unlock();
         }
+
+        if (added) {
+            markDirty(DIRTY_MEMBERS);
+        }
     }
 
     public void removeMember(String member) {
@@ -168,9 +257,103 @@ public class IslandData {
             return;
         }
 
+        String cleanMember = member.trim();
+        boolean removed;
+        membersLock.writeLock().lock();
+        try {
+            removed = members.remove(cleanMember);
+            if (removed) {
+                recordMemberRemoved(cleanMember);
+            }
+        } finally {
+            membersLock.writeLock().unlock();
+        }
+
+        if (removed) {
+            markDirty(DIRTY_MEMBERS);
+        }
+    }
+
+    /**
+     * Make the member list match the given names, recording only the names that were added or removed
+     */
+    public void syncMembers(Collection<String> newMembers) {
+        Set<String> target = new LinkedHashSet<>();
+        if (newMembers != null) {
+            for (String member : newMembers) {
+                if (member != null && !member.trim().isEmpty()) {
+                    target.add(member.trim());
+                }
+            }
+        }
+
+        boolean changed = false;
         membersLock.writeLock().lock();
         try {
-            members.remove(member.trim());
+            for (String member : new ArrayList<>(members)) {
+                if (!target.contains(member)) {
+                    members.remove(member);
+                    recordMemberRemoved(member);
+                    changed = true;
+                }
+            }
+            for (String member : target) {
+                if (!members.contains(member)) {
+                    members.add(member);
+                    recordMemberAdded(member);
+                    changed = true;
+                }
+            }
+        } finally {
+            membersLock.writeLock().unlock();
+        }
+
+        if (changed) {
+            markDirty(DIRTY_MEMBERS);
+        }
+    }
+
+    // Callers hold the members write lock
+    private void recordMemberAdded(String member) {
+        if (!removedMembers.remove(member)) {
+            addedMembers.add(member);
+        }
+    }
+
+    private void recordMemberRemoved(String member) {
+        if (!addedMembers.remove(member)) {
+            removedMembers.add(member);
+        }
+    }
+
+    /**
+     * Take the member changes made since the last save, clearing them
+     */
+    public MemberChanges drainMemberChanges() {
+        membersLock.writeLock().lock();
+        try {
+            MemberChanges changes = membersReplaced
+                    ? new MemberChanges(true, new ArrayList<>(members), null, null)
+                    : new MemberChanges(false, null, new LinkedHashSet<>(addedMembers), new LinkedHashSet<>(removedMembers));
+            membersReplaced = false;
+            addedMembers.clear();
+            removedMembers.clear();
+            return changes;
+        } finally {
+            membersLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * A save with drained member changes failed - rewrite the whole list next time
+     * since the delta can no longer be trusted to apply cleanly
+     */
+    public void restoreMemberChanges() {
+        membersLock.writeLock().lock();
+        try {
+            membersReplaced = true;
+            addedMembers.clear();
+            removedMembers.clear();
         } finally {
             membersLock.writeLock().unlock();
         }
@@ -220,10 +403,23 @@ public class IslandData {
             throw new IllegalArgumentException("Cannot add negative gems");
         }
 
-        return gems.addAndGet(amount);
+        long newGems = gems.addAndGet(amount);
+        if (amount > 0) {
+            markDirty(DIRTY_GEMS);
+        }
+        return newGems;
     }
 
     public boolean withdrawGems(long amount) {
+        return tryWithdrawGems(amount) >= 0;
+    }
+
+    /**
+     * Withdraw gems if the island has enough
+     *
+     * @return the gems left after the withdrawal, or -1 if there were not enough
+     */
+    public long tryWithdrawGems(long amount) {
         if (amount < 0) {
             throw new IllegalArgumentException("Cannot withdraw negative gems");
         }
@@ -231,10 +427,13 @@ public class IslandData {
         while (true) {
             long currentGems = gems.get();
             if (currentGems < amount) {
-                return false; // Insufficient gems
+                return -1; // Insufficient gems
             }
             if (gems.compareAndSet(currentGems, currentGems - amount)) {
-                return true; // Successfully withdrew
+                if (amount > 0) {
+                    markDirty(DIRTY_GEMS);
+                }
+                return currentGems - amount; // Successfully withdrew
             }
             // Retry if another thread modified the value
         }
@@ -246,11 +445,123 @@ public class IslandData {
             throw new IllegalArgumentException("Cannot add negative payout points");
         }
 
-        return payoutPoints.addAndGet(points);
+        long newPoints = payoutPoints.addAndGet(points);
+        if (points > 0) {
+            markDirty(DIRTY_PAYOUT_POINTS);
+            notifyPayoutPointsChanged();
+        }
+        return newPoints;
     }
 
     public void resetPayoutPoints() {
-        payoutPoints.set(0);
+        if (payoutPoints.getAndSet(0) != 0) {
+            markDirty(DIRTY_PAYOUT_POINTS);
+            notifyPayoutPointsChanged();
+        }
+    }
+
+    public PayoutPointsListener getPayoutPointsListener() {
+        return payoutPointsListener;
+    }
+
+    public void setPayoutPointsListener(PayoutPointsListener payoutPointsListener) {
+        this.payoutPointsListener = payoutPointsListener;
+    }
+
+    private void notifyPayoutPointsChanged() {
+        PayoutPointsListener listener = payoutPointsListener;
+        if (listener != null) {
+            listener.onPayoutPointsChanged(this);
+        }
+    }
+
+    // Change tracking for persistence and snapshots
+
+    /**
+     * Flag parts of the island as changed and bump the modification version
+     */
+    public void markDirty(int flags) {
+        dirtyFlags.getAndUpdate(current -> current | flags);
+        version.incrementAndGet();
+
+        Consumer<IslandData> listener = evictionListener.getAndSet(null);
+        if (listener != null) {
+            listener.accept(this);
+        }
+    }
+
+    /**
+     * Mark the island as evicted from the cache
+     * The listener runs once, on the first change made after this call
+     */
+    public void markEvicted(Consumer<IslandData> listener) {
+        evictionListener.set(listener);
+    }
+
+    /**
+     * Clear the evicted mark
+     *
+     * @return true if it was still set, false if a change already claimed it
+     */
+    public boolean clearEvicted() {
+        return evictionListener.getAndSet(null) != null;
+    }
+
+    /**
+     * Mark the island as fully persisted (used after loading from storage)
+     */
+    public void markClean() {
+        dirtyFlags.set(0);
+
+        membersLock.writeLock().lock();
+        try {
+            membersReplaced = false;
+            addedMembers.clear();
+            removedMembers.clear();
+        } finally {
+            membersLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Take the current dirty flags, clearing them atomically
+     * Changes made after this call set the flags again for the next save
+     */
+    public int consumeDirtyFlags() {
+        return dirtyFlags.getAndSet(0);
+    }
+
+    /**
+     * Put back dirty flags that were consumed by a save that failed
+     */
+    public void restoreDirtyFlags(int flags) {
+        dirtyFlags.getAndUpdate(current -> current | flags);
+    }
+
+    public int getDirtyFlags() {
+        return dirtyFlags.get();
+    }
+
+    public boolean isDirty() {
+        return dirtyFlags.get() != 0;
+    }
+
+    /**
+     * Record that the island was just used
+     */
+    public void touch() {
+        lastAccess = System.currentTimeMillis();
+    }
+
+    public long getLastAccess() {
+        return lastAccess;
+    }
+
+    /**
+     * Modification version, incremented on every change
+     */
+    public long getVersion() {
+        return version.get();
     }
 
     // Legacy compatibility methods (now maps to gems for backwards compatibility)
@@ -0,0 +1,80 @@
+package com.ninja.islandwallet.models;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable, versioned view of the leaderboard
+ * Holds the full ordering for consumers that walk it (payouts); per-island ranks are served
+ * by the live index instead
+ * Display strings for the leading ranks are built once with the snapshot, so top-N placeholders
+ * and scoreboards read them straight from an array
+ */
+public final class LeaderboardSnapshot {
+
+    public static final LeaderboardSnapshot EMPTY = new LeaderboardSnapshot(-1, List.of(), new long[0], 0);
+
+    private final long version;
+    private final List<IslandData> islands;
+    private final String[] topNames;
+    private final String[] topLeaders;
+    private final String[] topPoints;
+
+    /**
+     * @param islands          islands in rank order (the list must not be modified afterwards)
+     * @param points           payout points of each island at build time, same order
+     * @param formattedEntries number of leading ranks to prebuild display strings for
+     */
+    public LeaderboardSnapshot(long version, List<IslandData> islands, long[] points, int formattedEntries) {
+        this.version = version;
+        this.islands = Collections.unmodifiableList(islands);
+
+        // Ranks without an island get the same fallbacks the placeholders always showed
+        this.topNames = new String[formattedEntries];
+        this.topLeaders = new String[formattedEntries];
+        this.topPoints = new String[formattedEntries];
+        for (int i = 0; i < formattedEntries; i++) {
+            IslandData island = i < islands.size() ? islands.get(i) : null;
+            String leader = island != null ? island.getLeader() : null;
+            topNames[i] = island != null ? island.getIslandName() : "N/A";
+            topLeaders[i] = leader != null ? leader : "N/A";
+            topPoints[i] = island != null ? String.valueOf(points[i]) : "0";
+        }
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * All ranked islands in order (unmodifiable)
+     */
+    public List<IslandData> getIslands() {
+        return islands;
+    }
+
+    /**
+     * Prebuilt island name at a 1-based rank, or null if the rank was not prebuilt
+     */
+    public String getTopName(int rank) {
+        return rank >= 1 && rank <= topNames.length ? topNames[rank - 1] : null;
+    }
+
+    /**
+     * Prebuilt leader name at a 1-based rank, or null if the rank was not prebuilt
+     */
+    public String getTopLeader(int rank) {
+        return rank >= 1 && rank <= topLeaders.length ? topLeaders[rank - 1] : null;
+    }
+
+    /**
+     * Prebuilt points at a 1-based rank, or null if the rank was not prebuilt
+     */
+    public String getTopPoints(int rank) {
+        return rank >= 1 && rank <= topPoints.length ? topPoints[rank - 1] : null;
+    }
+
+    public int size() {
+        return islands.size();
+    }
+}
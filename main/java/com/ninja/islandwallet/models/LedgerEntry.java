@@ -0,0 +1,110 @@
+package com.ninja.islandwallet.models;
+
+import java.util.UUID;
+
+/**
+ * One immutable row of the transaction ledger: a single gem or payout point movement on an island
+ */
+public final class LedgerEntry {
+
+    /**
+     * What caused the movement; the code is what gets stored
+     */
+    public enum Kind {
+        DEPOSIT(1, false),
+        TRANSFER_REVERSAL(2, false),
+        ADMIN_DEPOSIT(3, false),
+        ADMIN_WITHDRAW(4, false),
+        POINT_PURCHASE(5, true),
+        REPLAY_CORRECTION(6, false);
+
+        private final int code;
+        private final boolean payoutPoints;
+
+        Kind(int code, boolean payoutPoints) {
+            this.code = code;
+            this.payoutPoints = payoutPoints;
+        }
+
+        public int getCode() {
+            return code;
+        }
+
+        /**
+         * True if the entry moves payout points rather than gems
+         */
+        public boolean isPayoutPoints() {
+            return payoutPoints;
+        }
+
+        public static Kind fromCode(int code) {
+            for (Kind kind : values()) {
+                if (kind.code == code) {
+                    return kind;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final long id;
+    private final UUID islandUuid;
+    private final UUID actor;
+    private final Kind kind;
+    private final long delta;
+    private final long balance;
+    private final long timestamp;
+
+    /**
+     * @param actor   player who caused the movement, or null for the console/system
+     * @param balance gems (or payout points) of the island right after the movement
+     */
+    public LedgerEntry(long id, UUID islandUuid, UUID actor, Kind kind, long delta, long balance, long timestamp) {
+        this.id = id;
+        this.islandUuid = islandUuid;
+        this.actor = actor;
+        this.kind = kind;
+        this.delta = delta;
+        this.balance = balance;
+        this.timestamp = timestamp;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public UUID getIslandUuid() {
+        return islandUuid;
+    }
+
+    public UUID getActor() {
+        return actor;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public long getDelta() {
+        return delta;
+    }
+
+    public long getBalance() {
+        return balance;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "LedgerEntry{" +
+                "id=" + id +
+                ", island=" + islandUuid +
+                ", kind=" + kind +
+                ", delta=" + delta +
+                ", balance=" + balance +
+                '}';
+    }
+}
@@ -0,0 +1,50 @@
+package com.ninja.islandwallet.models;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Member list changes taken from an island for one save
+ * Either a full replacement (members holds the whole list) or an incremental delta of added and removed names
+ */
+public class MemberChanges {
+
+    private final boolean replaced;
+    private final List<String> members;
+    private final Set<String> added;
+    private final Set<String> removed;
+
+    public MemberChanges(boolean replaced, List<String> members, Set<String> added, Set<String> removed) {
+        this.replaced = replaced;
+        this.members = members != null ? members : Collections.emptyList();
+        this.added = added != null ? added : Collections.emptySet();
+        this.removed = removed != null ? removed : Collections.emptySet();
+    }
+
+    /**
+     * True if the whole member list must be rewritten
+     */
+    public boolean isReplaced() {
+        return replaced;
+    }
+
+    /**
+     * Full member list (only meaningful when replaced)
+     */
+    public List<String> getMembers() {
+        return members;
+    }
+
+    public Set<String> getAdded() {
+        return added;
+    }
+
+    public Set<String> getRemoved() {
+        return removed;
+    }
+
+    public boolean isEmpty() {
+        return !replaced && added.isEmpty() && removed.isEmpty();
+    }
+}
@@ -0,0 +1,13 @@
+package com.ninja.islandwallet.models;
+
+/**
+ * Notified whenever an island's payout points change
+ */
+@FunctionalInterface
+public interface PayoutPointsListener {
+
+    /**
+     * Called after the points changed; read the current value from the island
+     */
+    void onPayoutPointsChanged(IslandData islandData);
+}
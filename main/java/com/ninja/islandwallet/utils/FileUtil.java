@@ -0,0 +1,43 @@
+package com.ninja.islandwallet.utils;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Crash-safe file replacement shared by the file based storage types
+ */
+public final class FileUtil {
+
+    private FileUtil() {
+    }
+
+    /**
+     * Write a file through a synced temp file and an atomic rename
+     */
+    public static void writeAtomically(File target, String contents) throws IOException {
+        File temp = new File(target.getParentFile(), target.getName() + ".tmp");
+
+        try (FileOutputStream out = new FileOutputStream(temp)) {
+            out.write(contents.getBytes(StandardCharsets.UTF_8));
+            out.getFD().sync();
+        }
+
+        moveAtomically(temp, target);
+    }
+
+    /**
+     * Replace a file with a fully written temp file, atomically where the file system supports it
+     */
+    public static void moveAtomically(File temp, File target) throws IOException {
+        try {
+            Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.ninja.islandwallet.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A message compiled once into literal segments and {placeholder} slots
+ * Rendering is a single StringBuilder pass - no regex, no repeated replace or color translation
+ */
+public final class MessageTemplate {
+
+    private final String text;
+    private final String[] literals; // One more than slots: literal, slot, literal, ... literal
+    private final String[] slots;    // Placeholder names including braces, e.g. "{gems}"
+    private final int literalLength;
+
+    private MessageTemplate(String text, String[] literals, String[] slots) {
+        this.text = text;
+        this.literals = literals;
+        this.slots = slots;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Split a finished (sanitized and color translated) message at its {placeholder} slots
+     */
+    public static MessageTemplate compile(String text) {
+        List<String> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+
+        int literalStart = 0;
+        int open = text.indexOf('{');
+        while (open >= 0) {
+            int close = text.indexOf('}', open + 1);
+            if (close < 0) {
+                break;
+            }
+
+            // A nested '{' starts the slot over, like "{{gems}"
+            int nested = text.lastIndexOf('{', close);
+            if (close > nested + 1) {
+                literals.add(text.substring(literalStart, nested));
+                slots.add(text.substring(nested, close + 1));
+                literalStart = close + 1;
+            }
+            open = text.indexOf('{', close + 1);
+        }
+        literals.add(text.substring(literalStart));
+
+        return new MessageTemplate(text, literals.toArray(new String[0]), slots.toArray(new String[0]));
+    }
+
+    /**
+     * Render with values given as placeholder/value pairs, e.g. render("{gems}", "1,000")
+     * Slots without a value are left as they are
+     */
+    public String render(String... replacements) {
+        if (slots.length == 0 || replacements.length < 2) {
+            return text;
+        }
+
+        StringBuilder builder = new StringBuilder(literalLength + slots.length * 16);
+        for (int i = 0; i < slots.length; i++) {
+            builder.append(literals[i]);
+            builder.append(valueOf(slots[i], replacements));
+        }
+        builder.append(literals[slots.length]);
+        return builder.toString();
+    }
+
+    private static String valueOf(String slot, String[] replacements) {
+        for (int i = 0; i + 1 < replacements.length; i += 2) {
+            if (slot.equals(replacements[i])) {
+                String value = replacements[i + 1];
+                return value != null ? value : slot;
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * The message with every slot left as it is
+     */
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,62 @@
+package com.ninja.islandwallet.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Helpers for compact island keys
+ * Islands are keyed by UUID in memory and stored as 16-byte BLOBs in SQLite
+ */
+public final class UuidUtil {
+
+    private UuidUtil() {
+    }
+
+    /**
+     * Parse an island ID into its key
+     * IDs that are not UUIDs (legacy data) get a stable name-based UUID, so they are never lost
+     *
+     * @return the key, or null for a null/empty ID
+     */
+    public static UUID islandKey(String islandId) {
+        if (islandId == null) {
+            return null;
+        }
+
+        String id = islandId.length() == 36 ? islandId : islandId.trim();
+        if (id.isEmpty()) {
+            return null;
+        }
+
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return UUID.nameUUIDFromBytes(id.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Encode a UUID as 16 big-endian bytes
+     */
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * Decode 16 bytes written by {@link #toBytes(UUID)}
+     *
+     * @return the UUID, or null if the value is not 16 bytes long
+     */
+    public static UUID fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != 16) {
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}